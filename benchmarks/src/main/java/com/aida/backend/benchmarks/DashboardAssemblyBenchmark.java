@@ -0,0 +1,126 @@
+package com.aida.backend.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aida.backend.dto.Category3SentimentCountDto;
+import com.aida.backend.dto.DailyCategory3SentimentCountDto;
+import com.aida.backend.dto.DailyCategoryCountDto;
+import com.aida.backend.dto.HeatmapResponse;
+import com.aida.backend.dto.KpiJson;
+import com.aida.backend.dto.LawRankDto;
+import com.aida.backend.dto.NetworkGraphResponse;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.service.DashboardAssembly;
+import com.aida.backend.service.DaySegment;
+import com.aida.backend.service.HierarchySnapshot;
+import com.aida.backend.service.LawSocialCounts;
+
+/**
+ * 대시보드 응답 조립 (DashboardService / DaySegmentCache 의 조회 이후 단계)
+ * - kpiDailyMerge: 일별 조회 행 → 일별 조각 → KPI 요약
+ * - heatmapPivot: 일별 조각 합산 → 대분류 × 스탠스 피벗
+ * - networkGraph: 소분류 × sentiment 집계 → 법 조항별 중첩 맵 → TOP 5 노드
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DashboardAssemblyBenchmark {
+
+    private static final int DAYS = 365;
+
+    @Param({"1000", "10000", "100000"})
+    int lawArticles;
+
+    // 일별 댓글 집계 행 수 (social_sentiment_daily_agg 기간 조회 결과)
+    @Param({"1000000", "5000000"})
+    int rows;
+
+    private HierarchySnapshot hierarchy;
+    private List<DailyCategory3SentimentCountDto> socialRows;
+    private List<DailyCategoryCountDto> newsRows;
+    private List<DaySegment> segments;
+
+    private List<Category3SentimentCountDto> category3Rows;
+    private List<LawRankDto> ranking;
+    private Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = SyntheticData.random();
+        int category3Count = lawArticles * SyntheticData.CATEGORY3_PER_LAW;
+
+        hierarchy = SyntheticData.hierarchy(lawArticles);
+        socialRows = SyntheticData.dailyCategory3SentimentCounts(rows, DAYS, category3Count, random);
+        newsRows = SyntheticData.dailyNewsCounts(hierarchy, DAYS, random);
+        segments = daySegments();
+
+        category3Rows = SyntheticData.category3SentimentCounts(category3Count, random);
+        ranking = new ArrayList<>();
+        for (long lawArticleId = 1; lawArticleId <= 5; lawArticleId++) {
+            ranking.add(new LawRankDto(lawArticleId, hierarchy.lawArticleLabel(lawArticleId), "n"));
+        }
+        opinionMap = SyntheticData.topOpinions(ranking, hierarchy);
+    }
+
+    @Benchmark
+    public Map<String, KpiJson> kpiDailyMerge() {
+        return DashboardAssembly.buildKpiSummary(hierarchy.category1Names(), daySegments());
+    }
+
+    @Benchmark
+    public HeatmapResponse heatmapPivot() {
+        return DashboardAssembly.buildHeatmap(DashboardAssembly.sumCategoryStances(segments));
+    }
+
+    @Benchmark
+    public NetworkGraphResponse networkGraph() {
+        LawSocialCounts counts = LawSocialCounts.from(category3Rows, hierarchy);
+        return DashboardAssembly.buildNetworkGraph(ranking, counts.stanceRows(), opinionMap, hierarchy);
+    }
+
+    /**
+     * DaySegmentCache.load 와 같은 방식으로 조회 행을 일별 조각으로 분해 (날짜 순)
+     */
+    private List<DaySegment> daySegments() {
+        Map<LocalDate, DaySegment> byDate = new HashMap<>();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = SyntheticData.START.plusDays(day);
+            byDate.put(date, DaySegment.empty(date));
+        }
+
+        for (DailyCategory3SentimentCountDto row : socialRows) {
+            byDate.get(row.day()).addSocial(hierarchy.category1Name(row.category3Id()), row.sentiment(), (int) row.count());
+        }
+        for (DailyCategoryCountDto row : newsRows) {
+            byDate.get(row.day()).addNews(row.category(), (int) row.count());
+        }
+
+        List<DaySegment> result = new ArrayList<>(DAYS);
+        for (int day = 0; day < DAYS; day++) {
+            result.add(byDate.get(SyntheticData.START.plusDays(day)));
+        }
+        return result;
+    }
+}
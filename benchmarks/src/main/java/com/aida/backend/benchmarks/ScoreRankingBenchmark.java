@@ -0,0 +1,102 @@
+package com.aida.backend.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.dto.LawArticlePeriodSumDto;
+import com.aida.backend.dto.LawRankDto;
+import com.aida.backend.service.HierarchySnapshot;
+import com.aida.backend.service.LawRanking;
+import com.aida.backend.service.LawRanking.LawScores;
+
+/**
+ * SCORE 순위 산정 (ScoreService.rankTop5 의 조회 이후 단계)
+ * - combine: 기준일 행 + 기간 합계 → 법안별 6가지 지표
+ * - normalize: Min-Max 정규화
+ * - rankTop5: IIS → TOP 5 → HOT 판정 (determineHot 5회 포함)
+ * - determineHot: HOT 판정 1회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreRankingBenchmark {
+
+    private static final int DAYS = 365;
+
+    @Param({"1000", "10000", "100000"})
+    int lawArticles;
+
+    private List<LawArticleDayScoreDto> endDayScores;
+    private List<LawArticlePeriodSumDto> periodSums;
+    private HierarchySnapshot hierarchy;
+
+    // 정규화 / 순위 / HOT 판정 입력 (정규화, IIS 는 원점수에서 다시 계산하므로 반복 실행해도 같은 값)
+    private Map<Long, LawScores> lawScores;
+    private Map<Long, Double> iisScores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = SyntheticData.random();
+        endDayScores = SyntheticData.endDayScores(lawArticles, random);
+        periodSums = SyntheticData.periodSums(lawArticles, DAYS, random);
+        hierarchy = SyntheticData.hierarchy(lawArticles);
+
+        lawScores = LawRanking.combine(endDayScores, periodSums, DAYS);
+        LawRanking.normalize(lawScores);
+        LawRanking.rankTop(lawScores, 5, hierarchy::lawArticleLabel);
+
+        iisScores = new HashMap<>();
+        lawScores.forEach((lawArticleId, scores) -> iisScores.put(lawArticleId, scores.iis()));
+    }
+
+    @Benchmark
+    public Map<Long, LawScores> combine() {
+        return LawRanking.combine(endDayScores, periodSums, DAYS);
+    }
+
+    @Benchmark
+    public Map<Long, LawScores> normalize() {
+        LawRanking.normalize(lawScores);
+        return lawScores;
+    }
+
+    @Benchmark
+    public List<LawRankDto> rankTop5() {
+        return LawRanking.rankTop(lawScores, 5, hierarchy::lawArticleLabel);
+    }
+
+    @Benchmark
+    public String determineHot() {
+        return LawRanking.determineHot(lawScores.get(1L), lawScores, iisScores);
+    }
+
+    /**
+     * 조회 이후 전체 (combine → normalize → rankTop5)
+     */
+    @Benchmark
+    public List<LawRankDto> fullRanking() {
+        Map<Long, LawScores> scores = LawRanking.combine(endDayScores, periodSums, DAYS);
+        LawRanking.normalize(scores);
+        return LawRanking.rankTop(scores, 5, hierarchy::lawArticleLabel);
+    }
+}
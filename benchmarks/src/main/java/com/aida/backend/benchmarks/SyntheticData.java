@@ -0,0 +1,164 @@
+package com.aida.backend.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.aida.backend.dto.Category3SentimentCountDto;
+import com.aida.backend.dto.DailyCategory3SentimentCountDto;
+import com.aida.backend.dto.DailyCategoryCountDto;
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.dto.LawArticlePeriodSumDto;
+import com.aida.backend.dto.LawRankDto;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.service.HierarchySnapshot;
+import com.aida.backend.service.HierarchySnapshot.Category3Node;
+import com.aida.backend.service.HierarchySnapshot.LawArticleNode;
+
+/**
+ * 벤치마크 입력 (DB 조회 결과와 같은 모양의 메모리 데이터, 고정 seed 로 매번 같은 값)
+ * - 법 조항마다 소분류 CATEGORY3_PER_LAW 개, 대분류는 CATEGORY1_COUNT 개에 고르게 나눔
+ */
+final class SyntheticData {
+
+    static final int CATEGORY1_COUNT = 12;
+    static final int CATEGORY3_PER_LAW = 2;
+    static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    private static final Sentiment[] SENTIMENTS = Sentiment.values();
+
+    private SyntheticData() {
+    }
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    /**
+     * 계층 스냅샷 (법 조항 id 1..lawArticles, 소분류 id 1..lawArticles × CATEGORY3_PER_LAW)
+     */
+    static HierarchySnapshot hierarchy(int lawArticles) {
+        List<String> category1Names = new ArrayList<>();
+        for (int i = 0; i < CATEGORY1_COUNT; i++) {
+            category1Names.add("대분류" + i);
+        }
+
+        Map<Long, Category3Node> category3ById = new HashMap<>();
+        Map<Long, LawArticleNode> lawArticleById = new HashMap<>();
+        Map<Long, List<Long>> category3IdsByLawArticleId = new HashMap<>();
+
+        for (long lawArticleId = 1; lawArticleId <= lawArticles; lawArticleId++) {
+            int category1 = (int) (lawArticleId % CATEGORY1_COUNT);
+            String category1Name = category1Names.get(category1);
+            lawArticleById.put(lawArticleId, new LawArticleNode(
+                lawArticleId, "법률 제" + lawArticleId + "조", "조 내용 " + lawArticleId,
+                lawArticleId, null, lawArticleId, category1Name));
+
+            List<Long> category3Ids = new ArrayList<>();
+            for (int i = 0; i < CATEGORY3_PER_LAW; i++) {
+                long category3Id = (lawArticleId - 1) * CATEGORY3_PER_LAW + i + 1;
+                category3ById.put(category3Id, new Category3Node(
+                    category3Id, "소분류" + category3Id, (long) category1, (long) category1, category1Name, lawArticleId));
+                category3Ids.add(category3Id);
+            }
+            category3IdsByLawArticleId.put(lawArticleId, category3Ids);
+        }
+
+        return new HierarchySnapshot(
+            category1Names, category3ById, Map.of(), Map.of(), lawArticleById, category3IdsByLawArticleId);
+    }
+
+    /**
+     * 기준일의 법 조항별 V, G, A (law_article_daily_metrics 하루치)
+     */
+    static List<LawArticleDayScoreDto> endDayScores(int lawArticles, Random random) {
+        List<LawArticleDayScoreDto> rows = new ArrayList<>(lawArticles);
+        for (long lawArticleId = 1; lawArticleId <= lawArticles; lawArticleId++) {
+            rows.add(new LawArticleDayScoreDto(
+                lawArticleId, random.nextDouble() * 100, random.nextGaussian(), random.nextDouble()));
+        }
+        return rows;
+    }
+
+    /**
+     * 기간 내 법 조항별 합계 (law_article_daily_metrics 기간 GROUP BY)
+     */
+    static List<LawArticlePeriodSumDto> periodSums(int lawArticles, int days, Random random) {
+        List<LawArticlePeriodSumDto> rows = new ArrayList<>(lawArticles);
+        for (long lawArticleId = 1; lawArticleId <= lawArticles; lawArticleId++) {
+            rows.add(new LawArticlePeriodSumDto(
+                lawArticleId, random.nextInt(days + 1),
+                random.nextInt(5000), random.nextInt(5000), random.nextInt(2000)));
+        }
+        return rows;
+    }
+
+    /**
+     * (일자, 소분류, sentiment)별 댓글 수 (social_sentiment_daily_agg 기간 조회)
+     */
+    static List<DailyCategory3SentimentCountDto> dailyCategory3SentimentCounts(
+        int rows, int days, int category3Count, Random random
+    ) {
+        List<DailyCategory3SentimentCountDto> result = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            result.add(new DailyCategory3SentimentCountDto(
+                START.plusDays(random.nextInt(days)), random.nextInt(category3Count) + 1,
+                SENTIMENTS[random.nextInt(SENTIMENTS.length)], random.nextInt(50) + 1));
+        }
+        return result;
+    }
+
+    /**
+     * 대분류별 일별 뉴스 수 (news_daily_category_agg 기간 조회)
+     */
+    static List<DailyCategoryCountDto> dailyNewsCounts(HierarchySnapshot hierarchy, int days, Random random) {
+        List<DailyCategoryCountDto> result = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (String category : hierarchy.category1Names()) {
+                result.add(new DailyCategoryCountDto(START.plusDays(day), category, random.nextInt(500)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 기간 내 (소분류, sentiment)별 댓글 수 (소분류마다 모든 sentiment)
+     */
+    static List<Category3SentimentCountDto> category3SentimentCounts(int category3Count, Random random) {
+        List<Category3SentimentCountDto> result = new ArrayList<>(category3Count * SENTIMENTS.length);
+        for (long category3Id = 1; category3Id <= category3Count; category3Id++) {
+            for (Sentiment sentiment : SENTIMENTS) {
+                result.add(new Category3SentimentCountDto(category3Id, sentiment, random.nextInt(1000)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * TOP 5 법 조항의 (소분류명 → sentiment → 대표 의견 5건)
+     */
+    static Map<Long, Map<String, Map<Sentiment, List<String>>>> topOpinions(
+        List<LawRankDto> ranking, HierarchySnapshot hierarchy
+    ) {
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> result = new HashMap<>();
+        for (LawRankDto law : ranking) {
+            for (Long category3Id : hierarchy.category3Ids(law.lawArticleId())) {
+                Map<Sentiment, List<String>> opinions = new EnumMap<>(Sentiment.class);
+                for (Sentiment sentiment : Sentiment.STANCE_TARGETS) {
+                    List<String> contents = new ArrayList<>();
+                    for (int i = 0; i < 5; i++) {
+                        contents.add("의견 " + category3Id + "-" + sentiment + "-" + i);
+                    }
+                    opinions.put(sentiment, contents);
+                }
+                result.computeIfAbsent(law.lawArticleId(), k -> new HashMap<>())
+                    .put(hierarchy.category3(category3Id).name(), opinions);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+package com.aida.backend.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * ⭐️ 대시보드 내부 지표 (Prometheus: /actuator/prometheus, 관리 포트)
+ * - aida.query{query}      : 대시보드 읽기 조회(JDBC) 시간 + aida.query.rows{query} 반환 행 수
+ * - aida.phase{phase}      : 서비스 내부 단계 시간 (SCORE 지표 적재 / 정규화 / 순위, 네트워크 그래프 조립 등)
+ * - 엔드포인트별 시간은 http.server.requests, JPA 리포지토리 메서드별 시간은 spring.data.repository.invocations (Boot 기본)
+ */
+@Component
+public class AidaMetrics {
+
+    private final MeterRegistry registry;
+
+    // 같은 이름의 지표를 호출마다 다시 찾지 않도록 보관 (이름 수만큼만 커짐)
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> queryRows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+
+    public AidaMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 결과를 한 번에 받는 조회
+     */
+    public <T extends Collection<?>> T query(String query, Supplier<T> call) {
+        T rows = queryTimer(query).record(call);
+        queryRows(query).record(rows.size());
+        return rows;
+    }
+
+    /**
+     * 결과를 한 행씩 넘기는 조회: call 에 넘긴 action 을 거친 행 수를 셈
+     */
+    public <T> void queryEach(String query, Consumer<T> action, Consumer<Consumer<T>> call) {
+        long[] count = new long[1];
+        queryTimer(query).record(() -> call.accept(row -> {
+            count[0]++;
+            action.accept(row);
+        }));
+        queryRows(query).record(count[0]);
+    }
+
+    public <T> T phase(String phase, Supplier<T> call) {
+        return phaseTimer(phase).record(call);
+    }
+
+    public void phase(String phase, Runnable call) {
+        phaseTimer(phase).record(call);
+    }
+
+    private Timer queryTimer(String query) {
+        return queryTimers.computeIfAbsent(query, name -> Timer.builder("aida.query")
+            .description("대시보드 읽기 조회 시간")
+            .tag("query", name)
+            .register(registry));
+    }
+
+    private DistributionSummary queryRows(String query) {
+        return queryRows.computeIfAbsent(query, name -> DistributionSummary.builder("aida.query.rows")
+            .description("대시보드 읽기 조회 반환 행 수")
+            .baseUnit("rows")
+            .tag("query", name)
+            .register(registry));
+    }
+
+    private Timer phaseTimer(String phase) {
+        return phaseTimers.computeIfAbsent(phase, name -> Timer.builder("aida.phase")
+            .description("서비스 내부 단계 시간")
+            .tag("phase", name)
+            .register(registry));
+    }
+}
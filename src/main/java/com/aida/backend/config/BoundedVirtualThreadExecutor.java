@@ -0,0 +1,45 @@
+package com.aida.backend.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 독립 조회 동시 실행(fan-out)용 실행기
+ * - 작업마다 가상 스레드 하나 (DB 응답을 기다리는 동안 플랫폼 스레드를 붙잡지 않음)
+ * - 동시에 DB를 쓰는 작업 수는 세마포어로 제한 (모든 요청 합산, 커넥션 풀보다 작게)
+ * - 이미 fan-out 작업 안에서 다시 나누는 조회는 그 스레드에서 바로 실행
+ *   (허가를 가진 작업이 다른 작업의 허가를 기다리면 교착될 수 있으므로)
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private static final ThreadLocal<Boolean> IN_TASK = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Semaphore permits;
+    private final ThreadFactory threadFactory;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (IN_TASK.get()) {
+            task.run();
+            return;
+        }
+
+        threadFactory.newThread(() -> {
+            // 허가를 기다리는 동안에는 아무것도 쥐고 있지 않음
+            permits.acquireUninterruptibly();
+            IN_TASK.set(Boolean.TRUE);
+            try {
+                task.run();
+            } finally {
+                IN_TASK.remove();
+                permits.release();
+            }
+        }).start();
+    }
+}
@@ -0,0 +1,72 @@
+package com.aida.backend.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.aida.backend.config.ReadReplicaRoutingDataSource.Route;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * ⭐️ 주 DB / 읽기 복제본 분리 (aida.datasource.replica.jdbc-url 이 있을 때만)
+ * - 주 DB: spring.datasource.* (수집 / 집계 갱신 / 스키마 마이그레이션)
+ * - 복제본: aida.datasource.replica.* (대시보드 읽기 전용 조회), 커넥션 풀도 따로
+ * - 설정이 없으면 이 구성은 빠지고 spring.datasource 하나를 그대로 씀
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "aida.datasource.replica", name = "jdbc-url")
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("aida.datasource.replica")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+		dataSource.setPoolName("replica");
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+			@Qualifier("primaryDataSource") DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") DataSource replicaDataSource,
+			@Value("${aida.datasource.replica.max-lag:PT10S}") Duration maxLag) {
+		return new ReplicaLagMonitor(
+				new JdbcTemplate(primaryDataSource), new JdbcTemplate(replicaDataSource), maxLag, Clock.systemUTC());
+	}
+
+	// JPA / JdbcTemplate / Flyway 가 쓰는 기본 DataSource
+	@Bean
+	@Primary
+	public DataSource dataSource(
+			@Qualifier("primaryDataSource") DataSource primaryDataSource,
+			@Qualifier("replicaDataSource") DataSource replicaDataSource,
+			ReplicaLagMonitor replicaLagMonitor) {
+		ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaLagMonitor);
+		routing.setTargetDataSources(Map.of(Route.PRIMARY, primaryDataSource, Route.REPLICA, replicaDataSource));
+		routing.setDefaultTargetDataSource(primaryDataSource);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+}
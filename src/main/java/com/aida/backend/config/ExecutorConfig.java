@@ -0,0 +1,18 @@
+package com.aida.backend.config;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ExecutorConfig {
+
+	// ⭐️ 독립 조회 동시 실행용 (가상 스레드 + 동시 실행 수 제한)
+	// (작업마다 DB 커넥션을 하나씩 쓰므로 커넥션 풀 크기보다 작게 유지)
+	@Bean
+	public Executor dashboardExecutor(@Value("${aida.dashboard.parallelism:4}") int parallelism) {
+		return new BoundedVirtualThreadExecutor("dashboard-", parallelism);
+	}
+}
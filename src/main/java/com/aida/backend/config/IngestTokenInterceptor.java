@@ -0,0 +1,52 @@
+package com.aida.backend.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * ⭐️ 수집 API(/api/ingest/**) 공유 토큰 확인
+ * - 크롤러가 Authorization: Bearer {aida.ingest.token} 헤더로 보냄
+ * - 토큰을 설정하지 않으면 수집 API 전체를 막음 (공개 포트에서 누구나 원본을 쓰지 못하도록)
+ * - 비교는 길이와 상관없이 일정한 시간 (MessageDigest.isEqual)
+ */
+@Component
+public class IngestTokenInterceptor implements HandlerInterceptor {
+
+	private static final String BEARER = "Bearer ";
+
+	private final byte[] token;
+
+	public IngestTokenInterceptor(@Value("${aida.ingest.token:}") String token) {
+		this.token = token.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if (CorsUtils.isPreFlightRequest(request)) return true;
+
+		if (token.length == 0) {
+			response.sendError(HttpStatus.FORBIDDEN.value(), "수집 토큰(aida.ingest.token)이 설정되지 않았습니다");
+			return false;
+		}
+
+		String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (authorization != null && authorization.startsWith(BEARER)
+				&& MessageDigest.isEqual(token, authorization.substring(BEARER.length()).getBytes(StandardCharsets.UTF_8))) {
+			return true;
+		}
+
+		response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+		response.sendError(HttpStatus.UNAUTHORIZED.value());
+		return false;
+	}
+}
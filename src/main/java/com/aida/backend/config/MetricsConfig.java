@@ -0,0 +1,64 @@
+package com.aida.backend.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+	// ⭐️ JPA 리포지토리 메서드별 반환 행 수 (spring.data.repository.rows{repository, method})
+	// (메서드별 시간은 Boot 기본 spring.data.repository.invocations, 여기서는 목록 / 페이지 / Optional 결과의 행 수만 셈)
+	@Bean
+	public static BeanPostProcessor repositoryRowsMetrics(ObjectProvider<MeterRegistry> registry) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+					factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+						(proxy, information) -> proxy.addAdvice(rowsCounter(registry, information.getRepositoryInterface().getSimpleName()))));
+				}
+				return bean;
+			}
+		};
+	}
+
+	// 리포지토리마다 하나, 메서드별 DistributionSummary 는 처음 호출될 때 한 번만 등록
+	private static MethodInterceptor rowsCounter(ObjectProvider<MeterRegistry> registry, String repository) {
+		Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+		return invocation -> {
+			Object result = invocation.proceed();
+			long rows = rowCount(result);
+			if (rows >= 0) {
+				summaries.computeIfAbsent(invocation.getMethod().getName(), method -> DistributionSummary.builder("spring.data.repository.rows")
+					.description("JPA 리포지토리 메서드 반환 행 수")
+					.baseUnit("rows")
+					.tag("repository", repository)
+					.tag("method", method)
+					.register(registry.getObject()))
+					.record(rows);
+			}
+			return result;
+		};
+	}
+
+	// 행 수로 셀 수 없는 결과(단일 값, 수정 건수 등)는 -1
+	private static long rowCount(Object result) {
+		if (result instanceof Collection<?> rows) return rows.size();
+		if (result instanceof Slice<?> slice) return slice.getNumberOfElements();
+		if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+		return -1;
+	}
+}
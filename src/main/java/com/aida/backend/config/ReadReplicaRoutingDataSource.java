@@ -0,0 +1,27 @@
+package com.aida.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본, 나머지는 주 DB로 보내는 DataSource
+ * - 복제본 지연이 허용치를 넘으면 읽기 전용도 주 DB
+ * - 트랜잭션 시작 시점이 아니라 첫 SQL 시점에 고르도록 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (JPA 트랜잭션은 읽기 전용 표시 전에 커넥션을 요청하므로)
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && lagMonitor.isReplicaUsable() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,119 @@
+package com.aida.backend.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.aida.backend.service.DashboardDataChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본 지연 감시 (heartbeat 방식)
+ * - 매 점검마다 주 DB의 replication_heartbeat 에 현재 시각을 쓰고, 복제본에 마지막으로 쓴 값이 도착했는지 봄
+ * - 도착했으면 지연 0, 아니면 (지금 - 복제본에 있는 마지막 heartbeat) 를 지연으로 봄 (보수적으로 큰 값)
+ * - 지연이 허용치를 넘거나 복제본을 읽을 수 없으면 읽기 전용 조회도 주 DB로 보냄
+ * - 첫 점검이 끝나기 전에는 주 DB 사용
+ * - 집계가 바뀌면 그 직후에 쓴 heartbeat 가 복제본에 보일 때까지 주 DB 사용
+ *   (무효화된 캐시가 복제본의 이전 집계로 다시 채워지지 않도록)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String SELECT_BEAT = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Clock clock;
+
+    // 마지막으로 주 DB에 쓴 heartbeat (epoch ms), 아직 없으면 0
+    private volatile long lastWrittenBeat;
+
+    // 마지막 집계 변경 직후에 쓴 heartbeat: 복제본이 이 값 이상을 보여야 사용
+    private volatile long changeBeat;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag, Clock clock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.clock = clock;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    // fixedDelay 이므로 점검끼리 겹치지 않음
+    @Scheduled(fixedDelayString = "${aida.datasource.replica.lag-check-interval-ms:2000}")
+    public void check() {
+        setReplicaUsable(isCaughtUp(readReplicaBeat()));
+        writeBeat();
+    }
+
+    /**
+     * 집계 변경 직후: 캐시 무효화 리스너보다 먼저 복제본 사용을 멈추고, 변경 이후 시점을 heartbeat 로 남김
+     * (이벤트는 집계 트랜잭션 커밋 후 발행되므로 이 heartbeat 가 복제본에 보이면 변경도 보임)
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDataChanged(DashboardDataChangedEvent event) {
+        setReplicaUsable(false);
+        long beat = writeBeat();
+        if (beat > 0) changeBeat = beat;
+    }
+
+    /**
+     * 복제본에 보이는 heartbeat (읽을 수 없으면 -1)
+     */
+    private long readReplicaBeat() {
+        try {
+            List<Long> beats = replica.queryForList(SELECT_BEAT, Long.class);
+            return beats.isEmpty() ? -1 : beats.get(0);
+        } catch (DataAccessException e) {
+            log.warn("읽기 복제본 heartbeat 조회 실패: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    private boolean isCaughtUp(long replicaBeat) {
+        long written = lastWrittenBeat;
+        if (written == 0 || replicaBeat < 0 || replicaBeat < changeBeat) return false;
+        if (replicaBeat >= written) return true;
+        return clock.millis() - replicaBeat <= maxLag.toMillis();
+    }
+
+    private void setReplicaUsable(boolean usable) {
+        if (usable != replicaUsable) {
+            log.info("읽기 복제본 {}", usable ? "사용" : "중지 (주 DB로 읽음)");
+        }
+        replicaUsable = usable;
+    }
+
+    /**
+     * 주 DB에 현재 시각을 heartbeat 로 기록하고 그 값을 돌려줌 (실패하면 0)
+     */
+    private long writeBeat() {
+        long beat = clock.millis();
+        try {
+            int updated = primary.update("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1", beat);
+            if (updated == 0) {
+                primary.update("INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, ?)", beat);
+            }
+            lastWrittenBeat = beat;
+            return beat;
+        } catch (DataAccessException e) {
+            log.warn("heartbeat 기록 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.aida.backend.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
@@ -10,7 +11,7 @@ public class WebConfig {
 	
 	
 	@Bean
-	public WebMvcConfigurer webMvcConfigurer() {
+	public WebMvcConfigurer webMvcConfigurer(IngestTokenInterceptor ingestTokenInterceptor) {
 		return new WebMvcConfigurer() {
 			@Override
 			public void addCorsMappings(CorsRegistry registry) {
@@ -18,6 +19,11 @@ public class WebConfig {
 				.allowedOrigins("*")
 				.allowedMethods("GET","POST","PUT","DELETE");
 			}
+
+			@Override
+			public void addInterceptors(InterceptorRegistry registry) {
+				registry.addInterceptor(ingestTokenInterceptor).addPathPatterns("/api/ingest/**");
+			}
 		
 		};
 	}
@@ -1,24 +1,42 @@
 package com.aida.backend.controller;
 
 import java.time.LocalDate;
-import java.util.Map;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.aida.backend.dto.HeatmapResponse;
-import com.aida.backend.dto.KpiJson;
-import com.aida.backend.dto.LegalTop5ResponseDto;
-import com.aida.backend.dto.NetworkGraphResponse;
 // ⭐️ 1. 사용하지 않는 Repository 임포트 제거
 // import com.aida.backend.repository.NewsRepository;
 // import com.aida.backend.repository.SocialRepository;
+import com.aida.backend.service.DashboardCache;
 import com.aida.backend.service.DashboardService;
+import com.aida.backend.service.DataChangeStamps;
+import com.aida.backend.service.EncodedBody;
+import com.aida.backend.service.JsonBodyWriter;
+import com.aida.backend.service.LiveDashboardService;
+import com.aida.backend.service.ResponseEncoder;
+import com.aida.backend.service.ResponseFormat;
 import com.aida.backend.service.ScoreService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -33,62 +51,229 @@ public class DashboardController {
     // ⭐️ 3. Service 필드만 남김
 	private final DashboardService dashboardService;
 	
+	// ⭐️ 기간별 결과 캐시 (새 데이터가 집계되면 해당 기간만 무효화)
+	private final DashboardCache dashboardCache;
+	
+	// 스트리밍 응답도 일반 응답과 같은 직렬화 설정을 쓰도록 MVC의 ObjectMapper 사용
+	private final ObjectMapper objectMapper;
+	
+	// ⭐️ 기간별 마지막 데이터 변경 시각 (ETag / Last-Modified)
+	private final DataChangeStamps dataChangeStamps;
+	
+	// ⭐️ 응답 객체 → 형식별 바이트 (캐시에는 직렬화 / 압축이 끝난 본문을 보관)
+	private final ResponseEncoder responseEncoder;
+	
+	// ⭐️ 기간별 실시간 구독 (SSE)
+	private final LiveDashboardService liveDashboardService;
+	
+	// ⭐️ 한 번에 조회할 수 있는 최대 일수 (일별 조각 캐시 크기 안쪽)
+	@Value("${aida.dashboard.max-range-days:3660}")
+	private long maxRangeDays;
+	
 	
 	
 	@GetMapping("/kpi-summary")
-    public Map<String, KpiJson> getKpiSummary(
+    public ResponseEntity<byte[]> getKpiSummary(
             @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            ServletWebRequest webRequest) {
         
-        return dashboardService.getKpiSummary(startDate, endDate);
+        return encoded("kpi-summary", startDate, endDate, webRequest,
+                () -> dashboardService.getKpiSummary(startDate, endDate));
     }
 	
+	// ⭐️ [신규] 스트리밍 모드 (긴 기간용): 같은 JSON을 응답 객체 없이 바로 씀 (결과 캐시는 쓰지 않음)
+	@GetMapping(value = "/kpi-summary", params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamKpiSummary(
+	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        WebRequest webRequest) {
+	    
+	    checkRange(startDate, endDate);
+	    // 종료일 이하 데이터가 바뀌지 않았으면 조회 없이 304
+	    if (notModified(webRequest, endDate, "json")) return null;
+	    
+	    return streamJson(dashboardService.kpiSummaryWriter(startDate, endDate));
+	}
+	
 	@GetMapping("/stance-area")
-	public Map<String, Object> getStanceArea(
+	public ResponseEntity<byte[]> getStanceArea(
 	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        ServletWebRequest webRequest) {
 	    
-	    return dashboardService.getStanceArea(startDate, endDate);
+	    return encoded("stance-area", startDate, endDate, webRequest,
+	            () -> dashboardService.getStanceArea(startDate, endDate));
 	}
 	
 	@GetMapping("/social-bar")
-	public Map<String, Object> getSocialBar(
+	public ResponseEntity<byte[]> getSocialBar(
 	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        ServletWebRequest webRequest) {
 	    
-	    return dashboardService.getSocialBar(startDate, endDate);
+	    return encoded("social-bar", startDate, endDate, webRequest,
+	            () -> dashboardService.getSocialBar(startDate, endDate));
 	}
 	
 	private final ScoreService scoreService;  // 필드 추가
 
 	@GetMapping("/legal-top5")
-	public Map<String, LegalTop5ResponseDto> getLegalTop5(
+	public ResponseEntity<byte[]> getLegalTop5(
 	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        ServletWebRequest webRequest) {
 	    
-	    return scoreService.getLegalTop5(startDate, endDate);
+	    return encoded("legal-top5", startDate, endDate, webRequest,
+	            () -> dashboardCache.get("legal-top5", startDate, endDate,
+	                    () -> scoreService.getLegalTop5(startDate, endDate)));
 	}
 	
 	/**
      * ⭐️ [신규] 히트맵 API 엔드포인트
      */
 	@GetMapping("/heatmap")
-    public HeatmapResponse getHeatmap(
+    public ResponseEntity<byte[]> getHeatmap(
             @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            ServletWebRequest webRequest) {
         
-        return dashboardService.getHeatmapData(startDate, endDate);
+        return encoded("heatmap", startDate, endDate, webRequest,
+                () -> dashboardService.getHeatmapData(startDate, endDate));
     }
 	
 	// ⭐️ [신규] 네트워크 그래프 API 엔드포인트
 		@GetMapping("/network-graph")
-	    public NetworkGraphResponse getNetworkGraph(
+	    public ResponseEntity<byte[]> getNetworkGraph(
 	            @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-	            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+	            @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	            ServletWebRequest webRequest) {
 	        
-	        return dashboardService.getNetworkGraph(startDate, endDate);
+	        return encoded("network-graph", startDate, endDate, webRequest,
+	                () -> dashboardService.getNetworkGraph(startDate, endDate));
 	    }
 	
+	@GetMapping(value = "/network-graph", params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamNetworkGraph(
+	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        WebRequest webRequest) {
+	    
+	    checkRange(startDate, endDate);
+	    // 종료일 이하 데이터가 바뀌지 않았으면 조회 없이 304
+	    if (notModified(webRequest, endDate, "json")) return null;
+	    
+	    return streamJson(dashboardService.networkGraphWriter(startDate, endDate));
+	}
+	
+	// ⭐️ [신규] 모든 패널을 한 번에 (대시보드 첫 화면용, 중간 결과 공유 + 병렬 조회)
+	@GetMapping("/bundle")
+	public ResponseEntity<byte[]> getBundle(
+	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        ServletWebRequest webRequest) {
+	    
+	    return encoded("bundle", startDate, endDate, webRequest,
+	            () -> dashboardService.getBundle(startDate, endDate));
+	}
+	
+	// ⭐️ [신규] 실시간 갱신 (SSE): 구독 시 현재 값(snapshot), 새 데이터가 집계되면 바뀐 것만(delta)
+	//   KPI / stance-area 를 몇 초마다 다시 조회하는 대신 사용 (같은 기간 구독자는 계산 한 번을 공유)
+	@GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter live(
+	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+	    
+	    checkRange(startDate, endDate);
+	    return liveDashboardService.subscribe(startDate, endDate);
+	}
 	
+	// ⭐️ [신규] 법 조항별 일별 SCORE 지표 시계열 (추이 차트용)
+	@GetMapping("/law-articles/{lawArticleId}/metrics")
+	public ResponseEntity<byte[]> getLawArticleMetrics(
+	        @PathVariable("lawArticleId") Long lawArticleId,
+	        @RequestParam("start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+	        @RequestParam("end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+	        ServletWebRequest webRequest) {
+	    
+	    return encoded("law-articles/" + lawArticleId + "/metrics", startDate, endDate, webRequest,
+	            () -> scoreService.getLawArticleMetrics(lawArticleId, startDate, endDate));
+	}
+	
+	/**
+	 * ⭐️ 캐시된 기간 응답: Accept 형식으로 한 번 직렬화 + gzip 해 둔 바이트를 그대로 보냄
+	 * - 종료일 이하 데이터가 바뀌지 않았으면 조회 없이 304
+	 * - 형식별로 따로 캐시 (같은 기간의 JSON / CBOR / Smile), gzip 본문은 같은 항목에 함께 보관
+	 */
+	private ResponseEntity<byte[]> encoded(String endpoint, LocalDate startDate, LocalDate endDate,
+	                                       ServletWebRequest webRequest, Supplier<?> loader) {
+	    checkRange(startDate, endDate);
+	    ResponseFormat format = ResponseFormat.negotiate(webRequest.getHeader(HttpHeaders.ACCEPT));
+	    boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+	    
+	    // 304 응답에도 Vary가 있어야 공유 캐시가 형식 / 압축을 섞지 않음
+	    webRequest.getResponse().setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+	    if (notModified(webRequest, endDate, format.getExtension() + (gzip ? "-gzip" : ""))) return null;
+	    
+	    EncodedBody body = dashboardCache.get(endpoint + "." + format.getExtension(), startDate, endDate,
+	            () -> responseEncoder.encode(loader.get(), format));
+	    
+	    ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(format.getMediaType());
+	    if (gzip && body.gzip() != null) {
+	        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+	    }
+	    return response.body(body.identity());
+	}
+	
+	/**
+	 * 시작일이 종료일보다 뒤이거나 기간이 최대 일수를 넘으면 400
+	 */
+	private void checkRange(LocalDate startDate, LocalDate endDate) {
+	    if (startDate.isAfter(endDate)) {
+	        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "start 가 end 보다 늦습니다");
+	    }
+	    if (ChronoUnit.DAYS.between(startDate, endDate) + 1 > maxRangeDays) {
+	        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "기간은 최대 " + maxRangeDays + "일입니다");
+	    }
+	}
+	
+	/**
+	 * Accept-Encoding 에 gzip (또는 *) 이 q=0 이 아닌 값으로 있는지
+	 */
+	private static boolean acceptsGzip(String acceptEncoding) {
+	    if (acceptEncoding == null) return false;
+	    
+	    for (String coding : acceptEncoding.split(",")) {
+	        String[] parts = coding.trim().split(";");
+	        String name = parts[0].trim();
+	        if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) continue;
+	        
+	        boolean rejected = parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?");
+	        if (!rejected) return true;
+	    }
+	    return false;
+	}
+	
+	/**
+	 * 조건부 GET: If-None-Match / If-Modified-Since 가 현재 변경 시각과 같으면 304 (true)
+	 * 아니면 응답에 ETag / Last-Modified 를 붙임
+	 */
+	private boolean notModified(WebRequest webRequest, LocalDate endDate, String representation) {
+	    return webRequest.checkNotModified(
+	            dataChangeStamps.etag(endDate, representation), dataChangeStamps.lastModified(endDate));
+	}
+	
+	/**
+	 * 작성기가 쓰는 JSON을 그대로 응답 본문으로 흘려보냄 (조회는 작성기를 만들 때 이미 끝남)
+	 */
+	private ResponseEntity<StreamingResponseBody> streamJson(JsonBodyWriter writer) {
+	    return ResponseEntity.ok()
+	            .contentType(MediaType.APPLICATION_JSON)
+	            .body(out -> {
+	                JsonGenerator generator = objectMapper.createGenerator(out);
+	                writer.write(generator);
+	                generator.flush();
+	            });
+	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.aida.backend.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.aida.backend.dto.IngestResult;
+import com.aida.backend.service.IngestService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ⭐️ 크롤러 대량 수집 API (본문: 한 줄에 레코드 하나인 NDJSON)
+ * 예) curl -X POST -H "Authorization: Bearer $AIDA_INGEST_TOKEN" -H 'Content-Type: application/x-ndjson' --data-binary @social.ndjson .../api/ingest/social
+ * 공유 토큰이 없거나 다르면 401 (IngestTokenInterceptor)
+ * DB가 밀려 수집 대기열이 계속 가득 차면 503 + Retry-After (본문의 resumeFromLine 부터 다시 보냄)
+ */
+@RestController
+@RequestMapping("/api/ingest")
+@RequiredArgsConstructor
+public class IngestController {
+
+	private static final String NDJSON = "application/x-ndjson";
+
+	// 대기열이 가득 차 중간에 멈췄을 때 다시 보내기까지 기다릴 시간 (초)
+	private static final String RETRY_AFTER_SECONDS = "5";
+
+	private final IngestService ingestService;
+
+	@PostMapping(value = "/news", consumes = NDJSON)
+	public ResponseEntity<IngestResult> ingestNews(InputStream body) throws IOException {
+		return respond(ingestService.ingestNews(body));
+	}
+
+	@PostMapping(value = "/social", consumes = NDJSON)
+	public ResponseEntity<IngestResult> ingestSocial(InputStream body) throws IOException {
+		return respond(ingestService.ingestSocial(body));
+	}
+
+	private static ResponseEntity<IngestResult> respond(IngestResult result) {
+		if (result.resumeFromLine() == null) return ResponseEntity.ok(result);
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+				.body(result);
+	}
+}
@@ -0,0 +1,12 @@
+package com.aida.backend.domain;
+
+/**
+ * C(논쟁도), B 계산용 극성 (sentiment를 찬성 / 반대 / 중립으로 묶은 것)
+ */
+public enum Polarity {
+
+    POSITIVE,
+    NEGATIVE,
+    NEUTRAL,
+    NONE
+}
@@ -0,0 +1,22 @@
+package com.aida.backend.domain;
+
+/**
+ * 화면 표시용 스탠스 (sentiment를 3가지로 묶은 것)
+ * ordinal 순서 = 응답 컬럼 순서 (개정강화, 폐지완화, 현상유지)
+ */
+public enum Stance {
+
+    STRENGTHEN("개정강화"),
+    RELAX("폐지완화"),
+    KEEP("현상유지");
+
+    private final String label;
+
+    Stance(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
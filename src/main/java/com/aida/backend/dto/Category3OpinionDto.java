@@ -0,0 +1,10 @@
+package com.aida.backend.dto;
+
+import com.aida.backend.entity.Sentiment;
+
+// 네트워크 그래프 대표 의견 1건 (소분류, sentiment, 본문)
+public record Category3OpinionDto(
+    long category3Id,
+    Sentiment sentiment,
+    String content
+) {}
@@ -0,0 +1,10 @@
+package com.aida.backend.dto;
+
+import com.aida.backend.entity.Sentiment;
+
+// 기간 내 (소분류, sentiment)별 댓글 수 (social_sentiment_daily_agg)
+public record Category3SentimentCountDto(
+    long category3Id,
+    Sentiment sentiment,
+    long count
+) {}
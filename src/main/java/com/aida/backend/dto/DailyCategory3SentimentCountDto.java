@@ -0,0 +1,13 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDate;
+
+import com.aida.backend.entity.Sentiment;
+
+// (일자, 소분류, sentiment)별 댓글 수 (social_sentiment_daily_agg)
+public record DailyCategory3SentimentCountDto(
+    LocalDate day,
+    long category3Id,
+    Sentiment sentiment,
+    long count
+) {}
@@ -0,0 +1,10 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDate;
+
+// 대분류별 일별 뉴스 수 (news_daily_category_agg)
+public record DailyCategoryCountDto(
+    LocalDate day,
+    String category,
+    long count
+) {}
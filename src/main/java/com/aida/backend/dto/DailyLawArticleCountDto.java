@@ -0,0 +1,10 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDate;
+
+// 법 조항별 일별 뉴스 수 (news_daily_law_agg)
+public record DailyLawArticleCountDto(
+    LocalDate day,
+    long lawArticleId,
+    long count
+) {}
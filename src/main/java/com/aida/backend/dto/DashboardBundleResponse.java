@@ -0,0 +1,13 @@
+package com.aida.backend.dto;
+
+import java.util.Map;
+
+// /bundle 응답: 개별 API 응답을 그대로 묶음 (각 필드 = 같은 이름의 개별 API 결과)
+public record DashboardBundleResponse(
+    Map<String, KpiJson> kpiSummary,
+    StanceAreaResponse stanceArea,
+    SocialBarResponse socialBar,
+    Map<String, LegalTop5ResponseDto> legalTop5,
+    HeatmapResponse heatmap,
+    NetworkGraphResponse networkGraph
+) {}
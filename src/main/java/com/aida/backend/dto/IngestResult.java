@@ -0,0 +1,12 @@
+package com.aida.backend.dto;
+
+import java.util.List;
+
+// 수집 결과 (errors: "줄 번호: 사유", 앞쪽 일부만)
+// resumeFromLine: 대기열이 가득 차 중간에 멈췄으면 다시 보낼 첫 줄 (본문을 끝까지 처리했으면 null)
+public record IngestResult(
+    long accepted,
+    long rejected,
+    List<String> errors,
+    Long resumeFromLine
+) {}
@@ -0,0 +1,9 @@
+package com.aida.backend.dto;
+
+// 기준일의 법 조항별 V, G, A (law_article_daily_metrics)
+public record LawArticleDayScoreDto(
+    long lawArticleId,
+    double vScore,
+    double gScore,
+    double aScore
+) {}
@@ -0,0 +1,12 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDate;
+
+// 기준일 이하 마지막 행의 법 조항별 V, G, A (law_article_daily_metrics, day 는 그 행의 일자)
+public record LawArticleLatestScoreDto(
+    long lawArticleId,
+    LocalDate day,
+    double vScore,
+    double gScore,
+    double aScore
+) {}
@@ -0,0 +1,10 @@
+package com.aida.backend.dto;
+
+// 기간 내 법 조항별 합계 (P, C, B 계산용, law_article_daily_metrics)
+public record LawArticlePeriodSumDto(
+    long lawArticleId,
+    double mentionedDays,
+    int positiveCount,
+    int negativeCount,
+    int neutralCount
+) {}
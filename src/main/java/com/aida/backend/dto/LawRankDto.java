@@ -0,0 +1,8 @@
+package com.aida.backend.dto;
+
+// TOP 5 순위 산정 결과 (댓글/스탠스 집계와 합치기 전 단계)
+public record LawRankDto(
+    Long lawArticleId,
+    String lawName,   // 표시명 (법령명 + 조항 + 제목)
+    String hot        // "y" / "n"
+) {}
@@ -0,0 +1,22 @@
+package com.aida.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// /live SSE 이벤트 본문
+// snapshot: 구독 시점의 전체 값, delta: 바뀐 것만 (KPI는 바뀐 대분류의 요약 + 바뀐 일자, stance-area는 바뀐 일자, TOP 5는 바뀌었을 때만 전체)
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record LiveDashboardUpdate(
+    Map<String, KpiJson> kpi,
+    List<StanceAreaDto> stanceArea,
+    Map<String, LegalTop5ResponseDto> legalTop5
+) {
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return kpi.isEmpty() && stanceArea.isEmpty() && legalTop5.isEmpty();
+    }
+}
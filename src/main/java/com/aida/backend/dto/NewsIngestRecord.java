@@ -0,0 +1,13 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDateTime;
+
+// 수집 API 뉴스 1건 (NDJSON 한 줄, subid 는 숫자 소분류 code)
+public record NewsIngestRecord(
+    Long subid,
+    String category,
+    LocalDateTime date,
+    String title,
+    String content,
+    String url
+) {}
@@ -0,0 +1,6 @@
+package com.aida.backend.dto;
+
+import java.util.List;
+
+// /social-bar 응답: { "data": [ { "category", "개정강화", "폐지완화", "현상유지" } ] }
+public record SocialBarResponse(List<SocialBarDto> data) {}
@@ -0,0 +1,14 @@
+package com.aida.backend.dto;
+
+import java.time.LocalDateTime;
+
+// 수집 API 댓글 1건 (NDJSON 한 줄, category3 는 소분류 code, sentiment 는 원문 문자열)
+public record SocialIngestRecord(
+    String category3,
+    LocalDateTime date,
+    String title,
+    String content,
+    String url,
+    String source,
+    String sentiment
+) {}
@@ -1,10 +1,11 @@
 package com.aida.backend.dto;
 
+import com.aida.backend.entity.Sentiment;
+
 // 쿼리 1(집계)의 결과를 받을 임시 DTO
 public record SocialNetworkQueryDto(
-    String lawArticleName, // CONCAT(...) 결과
-    String articleContent, // la.articleContent 결과
+    Long lawArticleId,     // 소분류 → 법 조항 id (표시명/조 내용은 HierarchyIndex)
     String cat3Name,       // c3.name 결과 (incident name)
-    String sentiment,
+    Sentiment sentiment,
     Long count             // ⭐️ COUNT(s)는 Long 타입입니다.
-) {}
\ No newline at end of file
+) {}
@@ -1,9 +1,11 @@
 package com.aida.backend.dto;
 
+import com.aida.backend.entity.Sentiment;
+
 // 쿼리 2(대표의견)의 결과를 받을 임시 DTO
 public record SocialOpinionQueryDto(
-    String lawArticleName,
+    Long lawArticleId,
     String cat3Name,
-    String sentiment,
+    Sentiment sentiment,
     String content
-) {}
\ No newline at end of file
+) {}
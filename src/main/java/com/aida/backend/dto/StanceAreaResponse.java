@@ -0,0 +1,6 @@
+package com.aida.backend.dto;
+
+import java.util.List;
+
+// /stance-area 응답: { "data": [ { "date", "개정강화", "폐지완화", "현상유지" } ] }
+public record StanceAreaResponse(List<StanceAreaDto> data) {}
@@ -0,0 +1,39 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 집계 테이블별로 원본 테이블의 어느 id까지 반영했는지 기록
+ */
+@Entity
+@Table(name = "aggregation_watermark")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class AggregationWatermark {
+
+    // 집계 이름 (예: "social_daily_agg")
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    // 마지막으로 반영한 원본 id
+    @Column(nullable = false)
+    private Long lastId;
+
+    // 반영 이후 아직 파생 테이블(V 시계열 등)에 재계산되지 않은 가장 이른 집계 일자
+    private LocalDate dirtyFrom;
+
+    public AggregationWatermark(String name, Long lastId) {
+        this.name = name;
+        this.lastId = lastId;
+    }
+}
@@ -0,0 +1,72 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 법 조항별 일별 SCORE 원점수
+ * - V, G, A: 해당 일자를 기준일로 한 값
+ * - P, C, B: 해당 일자 하루치 값 (기간 값은 아래 건수 합계로 다시 계산)
+ */
+@Entity
+@Table(name = "law_article_daily_metrics",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"law_article_id", "day"})
+    }) // 기간 조회용 커버링 인덱스는 db/migration 에서 관리
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class LawArticleDailyMetrics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "law_article_id", nullable = false)
+    private Long lawArticleId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "v_score", nullable = false)
+    private Double vScore;
+
+    // 해당 일자 뉴스 언급 여부 (1.0 / 0.0)
+    @Column(name = "p_score", nullable = false)
+    private Double pScore;
+
+    @Column(name = "g_score", nullable = false)
+    private Double gScore;
+
+    @Column(name = "a_score", nullable = false)
+    private Double aScore;
+
+    @Column(name = "c_score", nullable = false)
+    private Double cScore;
+
+    @Column(name = "b_score", nullable = false)
+    private Double bScore;
+
+    // 찬성_* 댓글 수
+    @Column(nullable = false)
+    private Integer positiveCount;
+
+    // 반대_* 댓글 수
+    @Column(nullable = false)
+    private Integer negativeCount;
+
+    // 중립 댓글 수
+    @Column(nullable = false)
+    private Integer neutralCount;
+}
@@ -0,0 +1,44 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 법 조항별 누적 V 점수 시계열
+ * V(d) = V(d-1) · 2^(-1/7) + count(d)
+ * 뉴스가 있었던 날에만 행을 저장하고, 그 사이 날짜는 반감기로 감쇠시켜 계산한다.
+ */
+@Entity
+@Table(name = "law_article_v_daily", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"law_article_id", "day"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class LawArticleVScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "law_article_id", nullable = false)
+    private Long lawArticleId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // 해당 일자의 뉴스까지 반영한 V 값
+    @Column(name = "v_score", nullable = false)
+    private Double vScore;
+}
@@ -1,5 +1,6 @@
 package com.aida.backend.entity;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
@@ -18,7 +19,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news") // 인덱스, 월 파티션은 db/migration 에서 관리
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class News {
@@ -45,8 +46,13 @@ public class News {
     private Category3 category3;
 
     private String category;
+    @Column(nullable = false) // 월 파티션 키(day)의 원본
     private LocalDateTime date;
     
+    // ⭐️ date의 일자 (DB가 계산하는 저장 생성 컬럼, 일별 집계/기간 조회용)
+    @Column(insertable = false, updatable = false)
+    private LocalDate day;
+    
   
     @Column(length = 500)
     private String title;
@@ -0,0 +1,43 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 뉴스 일별 집계 (일자 × 대분류(news.category) → 건수)
+ * KPI 요약용
+ */
+@Entity
+@Table(name = "news_daily_category_agg", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"day", "category"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class NewsDailyCategoryAgg {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // category가 없는 원본 행은 ''로 집계
+    @Column(nullable = false)
+    private String category;
+
+    @Column(name = "cnt", nullable = false)
+    private Long count;
+}
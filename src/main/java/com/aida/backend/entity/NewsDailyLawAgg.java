@@ -0,0 +1,42 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 뉴스 일별 집계 (일자 × 법 조항 → 건수)
+ * SCORE 미디어 지표(V, P, G, A) 계산용
+ */
+@Entity
+@Table(name = "news_daily_law_agg", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"day", "law_article_id"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class NewsDailyLawAgg {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Column(name = "law_article_id", nullable = false)
+    private Long lawArticleId;
+
+    @Column(name = "cnt", nullable = false)
+    private Long count;
+}
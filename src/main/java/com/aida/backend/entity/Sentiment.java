@@ -0,0 +1,80 @@
+package com.aida.backend.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.aida.backend.domain.Polarity;
+import com.aida.backend.domain.Stance;
+
+/**
+ * 댓글 sentiment (social.sentiment 문자열 ↔ 1바이트 코드)
+ * - DB 집계/필터는 code(TINYINT)로, 화면 표시는 stance로
+ * - code 값은 저장되는 값이므로 바꾸지 말 것 (새 값은 뒤에 추가)
+ */
+public enum Sentiment {
+
+    UNKNOWN(0, null, Stance.KEEP, Polarity.NONE),          // null / 빈 값 / 정의되지 않은 값
+    PRO_STRENGTHEN(1, "찬성_개정강화", Stance.STRENGTHEN, Polarity.POSITIVE),
+    PRO_RELAX(2, "찬성_폐지완화", Stance.RELAX, Polarity.POSITIVE),
+    PRO_KEEP(3, "찬성_현상유지", Stance.KEEP, Polarity.POSITIVE),
+    CON_KEEP(4, "반대_현상유지", Stance.KEEP, Polarity.NEGATIVE),
+    CON_RELAX(5, "반대_폐지완화", Stance.KEEP, Polarity.NEGATIVE),
+    CON_STRENGTHEN(6, "반대_개정강화", Stance.KEEP, Polarity.NEGATIVE),
+    NEUTRAL(7, "중립", Stance.KEEP, Polarity.NEUTRAL);
+
+    /**
+     * 스탠스 집계(stance-area, social-bar, 히트맵, TOP 5, 네트워크 그래프) 대상
+     */
+    public static final Set<Sentiment> STANCE_TARGETS = EnumSet.of(PRO_STRENGTHEN, PRO_RELAX, CON_KEEP);
+
+    private static final Sentiment[] BY_CODE = new Sentiment[values().length];
+    static {
+        for (Sentiment sentiment : values()) {
+            BY_CODE[sentiment.code] = sentiment;
+        }
+    }
+
+    private final byte code;
+    private final String label;
+    private final Stance stance;
+    private final Polarity polarity;
+
+    Sentiment(int code, String label, Stance stance, Polarity polarity) {
+        this.code = (byte) code;
+        this.label = label;
+        this.stance = stance;
+        this.polarity = polarity;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Stance getStance() {
+        return stance;
+    }
+
+    public Polarity getPolarity() {
+        return polarity;
+    }
+
+    public boolean isStanceTarget() {
+        return STANCE_TARGETS.contains(this);
+    }
+
+    public static Sentiment fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : UNKNOWN;
+    }
+
+    public static Sentiment fromLabel(String label) {
+        if (label == null) return UNKNOWN;
+        for (Sentiment sentiment : values()) {
+            if (label.equals(sentiment.label)) return sentiment;
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,21 @@
+package com.aida.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Sentiment ↔ TINYINT 코드
+ */
+@Converter
+public class SentimentConverter implements AttributeConverter<Sentiment, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Sentiment sentiment) {
+        return sentiment != null ? sentiment.getCode() : null;
+    }
+
+    @Override
+    public Sentiment convertToEntityAttribute(Byte code) {
+        return code != null ? Sentiment.fromCode(code) : null;
+    }
+}
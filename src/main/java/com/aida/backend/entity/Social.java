@@ -1,9 +1,11 @@
 package com.aida.backend.entity;
 
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -25,7 +27,7 @@ import lombok.ToString;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name= "social")
+@Table(name= "social") // 인덱스, 월 파티션은 db/migration 에서 관리
 public class Social {
 
 	@Id
@@ -37,8 +39,13 @@ public class Social {
 	private Category3 category3;
 	
 	
+	@Column(nullable = false) // 월 파티션 키(day)의 원본
 	private LocalDateTime date;
 	
+	// ⭐️ date의 일자 (DB가 계산하는 저장 생성 컬럼, 일별 집계/기간 조회용)
+	@Column(insertable = false, updatable = false)
+	private LocalDate day;
+	
 	@Column(columnDefinition = "TEXT")
     private String title;
 	
@@ -54,6 +61,11 @@ public class Social {
 	@Column(length = 500)
     private String sentiment;
 	
+	// ⭐️ sentiment 1바이트 코드 (크롤러는 문자열만 넣으므로 집계 작업이 id 구간별로 채움)
+	@Convert(converter = SentimentConverter.class)
+	@Column(name = "sentiment_code")
+	private Sentiment sentimentCode;
+	
 	
 	
 	
@@ -0,0 +1,49 @@
+package com.aida.backend.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 소셜 일별 집계 (일자 × 소분류 × sentiment → 건수)
+ * social 원본 테이블 대신 대시보드 집계 쿼리가 조회하는 테이블입니다.
+ */
+@Entity
+@Table(name = "social_sentiment_daily_agg", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"day", "category3_id", "sentiment_code"})
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class SocialDailyAgg {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // 소분류가 없는 원본 행은 0으로 집계 (JOIN 쿼리에서는 자연히 제외됨)
+    @Column(name = "category3_id", nullable = false)
+    private Long category3Id;
+
+    // sentiment 1바이트 코드 (없거나 정의되지 않은 값은 UNKNOWN)
+    @Convert(converter = SentimentConverter.class)
+    @Column(name = "sentiment_code", nullable = false)
+    private Sentiment sentiment;
+
+    @Column(name = "cnt", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,9 @@
+package com.aida.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.aida.backend.entity.AggregationWatermark;
+
+public interface AggregationWatermarkRepository extends JpaRepository<AggregationWatermark, String> {
+
+}
@@ -0,0 +1,22 @@
+package com.aida.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.aida.backend.entity.Category3;
+
+public interface Category3Repository extends JpaRepository<Category3, Long> {
+
+    /**
+     * 소분류 → 중분류 → 대분류, 소분류 → 법 조항 (HierarchyIndex 적재용)
+     * [c3.id, c3.code, c3.name, c2.id, c1.id, c1.name, la.id]
+     */
+    @Query("SELECT c3.id, c3.code, c3.name, c2.id, c1.id, c1.name, la.id " +
+           "FROM Category3 c3 " +
+           "LEFT JOIN c3.category2 c2 " +
+           "LEFT JOIN c2.category1 c1 " +
+           "LEFT JOIN c3.lawArticle la")
+    List<Object[]> findHierarchyRows();
+}
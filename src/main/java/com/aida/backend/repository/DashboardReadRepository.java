@@ -0,0 +1,204 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.aida.backend.config.AidaMetrics;
+import com.aida.backend.dto.Category3OpinionDto;
+import com.aida.backend.dto.Category3SentimentCountDto;
+import com.aida.backend.dto.DailyCategory3SentimentCountDto;
+import com.aida.backend.dto.DailyCategoryCountDto;
+import com.aida.backend.dto.DailyLawArticleCountDto;
+import com.aida.backend.dto.LawArticleLatestScoreDto;
+import com.aida.backend.dto.LawArticlePeriodSumDto;
+import com.aida.backend.entity.Sentiment;
+
+/**
+ * 대시보드 읽기 전용 조회 (JPA 영속성 컨텍스트를 거치지 않는 JDBC 조회)
+ * - 결과는 엔티티 / Object[] 대신 기본형 필드 행(record)으로 바로 매핑
+ * - 행 수가 기간에 비례하는 조회는 전방향 스트리밍 (fetch size 단위 서버 커서, 한 행씩 넘김)
+ * - 읽기 전용 트랜잭션 표시만 하고 BEGIN / COMMIT 은 보내지 않음 (SUPPORTS, 단일 SELECT는 autocommit으로 충분)
+ *   읽기 복제본을 설정하면 이 표시로 조회마다 복제본으로 감 (DataSourceRoutingConfig)
+ *   서비스 메서드 단위로 묶지 않음: 묶으면 병렬 조회 동안 호출 스레드가 커넥션을 하나 더 쥐고 있어 풀이 마름
+ * - 조회마다 시간 / 반환 행 수를 aida.query{query=메서드 이름} 으로 기록
+ */
+@Repository
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class DashboardReadRepository {
+
+    private static final RowMapper<DailyCategory3SentimentCountDto> DAILY_CATEGORY3_SENTIMENT_COUNT = (rs, rowNum) ->
+        new DailyCategory3SentimentCountDto(
+            rs.getObject(1, LocalDate.class), rs.getLong(2), Sentiment.fromCode(rs.getInt(3)), rs.getLong(4));
+
+    private static final RowMapper<Category3OpinionDto> CATEGORY3_OPINION = (rs, rowNum) ->
+        new Category3OpinionDto(rs.getLong(1), Sentiment.fromCode(rs.getInt(2)), rs.getString(3));
+
+    // 결과가 작은 조회 (한 번에 받음)
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // 결과가 큰 조회 (fetch size 단위로 나눠 받음, useCursorFetch)
+    private final NamedParameterJdbcTemplate streamingJdbc;
+
+    private final AidaMetrics metrics;
+
+    public DashboardReadRepository(
+        DataSource dataSource,
+        AidaMetrics metrics,
+        @Value("${aida.reporting.fetch-size:1000}") int fetchSize
+    ) {
+        this.metrics = metrics;
+        this.jdbc = new NamedParameterJdbcTemplate(dataSource);
+
+        JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+        streamingTemplate.setFetchSize(fetchSize);
+        this.streamingJdbc = new NamedParameterJdbcTemplate(streamingTemplate);
+    }
+
+    /**
+     * 대분류별 일별 뉴스 수 (KPI)
+     */
+    public List<DailyCategoryCountDto> findDailyNewsCounts(LocalDate startDate, LocalDate endDate) {
+        return metrics.query("findDailyNewsCounts", () -> jdbc.query(
+                "SELECT a.day, a.category, SUM(a.cnt) " +
+                "FROM news_daily_category_agg a " +
+                "WHERE a.day BETWEEN :startDate AND :endDate " +
+                "GROUP BY a.category, a.day",
+                period(startDate, endDate),
+                (rs, rowNum) -> new DailyCategoryCountDto(rs.getObject(1, LocalDate.class), rs.getString(2), rs.getLong(3))));
+    }
+
+    /**
+     * (일자, 소분류, sentiment)별 댓글 수를 한 행씩 넘김 (일별 조각: KPI / stance-area / social-bar / 히트맵)
+     */
+    public void forEachDailyCategory3SentimentCount(
+        LocalDate startDate, LocalDate endDate, Consumer<DailyCategory3SentimentCountDto> action
+    ) {
+        metrics.queryEach("forEachDailyCategory3SentimentCount", action, counted -> {
+            try (Stream<DailyCategory3SentimentCountDto> rows = streamingJdbc.queryForStream(
+                    "SELECT a.day, a.category3_id, a.sentiment_code, SUM(a.cnt) " +
+                    "FROM social_sentiment_daily_agg a " +
+                    "WHERE a.day BETWEEN :startDate AND :endDate " +
+                    "GROUP BY a.day, a.category3_id, a.sentiment_code",
+                    period(startDate, endDate), DAILY_CATEGORY3_SENTIMENT_COUNT)) {
+                rows.forEach(counted);
+            }
+        });
+    }
+
+    /**
+     * 기간 내 (소분류, sentiment)별 댓글 수 (법 조항별 댓글 수 / 스탠스 + 네트워크 그래프 집계 공용)
+     */
+    public List<Category3SentimentCountDto> findCategory3SentimentCounts(LocalDate startDate, LocalDate endDate) {
+        return metrics.query("findCategory3SentimentCounts", () -> jdbc.query(
+                "SELECT a.category3_id, a.sentiment_code, SUM(a.cnt) " +
+                "FROM social_sentiment_daily_agg a " +
+                "WHERE a.day BETWEEN :startDate AND :endDate " +
+                "GROUP BY a.category3_id, a.sentiment_code",
+                period(startDate, endDate),
+                (rs, rowNum) -> new Category3SentimentCountDto(rs.getLong(1), Sentiment.fromCode(rs.getInt(2)), rs.getLong(3))));
+    }
+
+    /**
+     * 네트워크 그래프 대표 의견을 한 행씩 넘김
+     * - 지정한 소분류(TOP 5 법 조항에 연결된 소분류)만, (소분류, sentiment) 그룹마다 id 순으로 최대 perGroup 건
+     * - 순번은 id로만 매기고(소분류/sentiment 코드/일자 인덱스만으로 계산), 본문(content)은 뽑힌 행만 다시 읽음
+     */
+    public void forEachTopOpinion(
+        Collection<Long> category3Ids, Collection<Byte> sentimentCodes,
+        LocalDate startDate, LocalDate endDate, int perGroup,
+        Consumer<Category3OpinionDto> action
+    ) {
+        MapSqlParameterSource params = period(startDate, endDate)
+            .addValue("category3Ids", category3Ids)
+            .addValue("sentimentCodes", sentimentCodes)
+            .addValue("perGroup", perGroup);
+
+        metrics.queryEach("forEachTopOpinion", action, counted -> {
+            try (Stream<Category3OpinionDto> rows = streamingJdbc.queryForStream(
+                    "SELECT t.category3_id, t.sentiment_code, s2.content " +
+                    "FROM (" +
+                    "SELECT s.id, s.category3_id, s.sentiment_code, " +
+                    "ROW_NUMBER() OVER (PARTITION BY s.category3_id, s.sentiment_code ORDER BY s.id) AS rn " +
+                    "FROM social s " +
+                    "WHERE s.day BETWEEN :startDate AND :endDate " +
+                    "AND s.category3_id IN (:category3Ids) " +
+                    "AND s.sentiment_code IN (:sentimentCodes)" +
+                    ") t " +
+                    "JOIN social s2 ON s2.id = t.id " +
+                    "WHERE t.rn <= :perGroup " +
+                    "ORDER BY t.category3_id, t.sentiment_code, t.rn",
+                    params, CATEGORY3_OPINION)) {
+                rows.forEach(counted);
+            }
+        });
+    }
+
+    /**
+     * 기준일 이하 법 조항별 마지막 지표 행의 V, G, A
+     * - 변화 없는 날은 행을 만들지 않으므로 (LawMetricsService) 기준일 행이 없을 수 있음
+     *   → 기준일로 감쇠 / G, A 재계산은 LawMetricsService.scoresAt
+     * - 기준일 이전 행은 V 이력이 있는 (뉴스가 한 번이라도 있었던) 법 조항만: 기준일 행이 있었다면 만들어졌을 행
+     * - (law_article_id, day) 유니크 인덱스로 법 조항마다 기준일 이하 MAX(day) 한 건씩만 읽음
+     */
+    public List<LawArticleLatestScoreDto> findLatestLawArticleDayScores(LocalDate day) {
+        return metrics.query("findLatestLawArticleDayScores", () -> jdbc.query(
+                "SELECT m.law_article_id, m.day, m.v_score, m.g_score, m.a_score " +
+                "FROM law_article_daily_metrics m " +
+                "JOIN (" +
+                "SELECT l.law_article_id, MAX(l.day) AS day " +
+                "FROM law_article_daily_metrics l " +
+                "WHERE l.day <= :day " +
+                "GROUP BY l.law_article_id" +
+                ") latest ON latest.law_article_id = m.law_article_id AND latest.day = m.day " +
+                "WHERE m.day = :day OR m.v_score > 0",
+                new MapSqlParameterSource("day", day),
+                (rs, rowNum) -> new LawArticleLatestScoreDto(
+                    rs.getLong(1), rs.getObject(2, LocalDate.class), rs.getDouble(3), rs.getDouble(4), rs.getDouble(5))));
+    }
+
+    /**
+     * 법 조항별 일별 뉴스 수 (마지막 지표 행 이후 기준일의 G, A 재계산용, 최근 3주)
+     */
+    public List<DailyLawArticleCountDto> findDailyLawNewsCounts(LocalDate startDate, LocalDate endDate) {
+        return metrics.query("findDailyLawNewsCounts", () -> jdbc.query(
+                "SELECT a.day, a.law_article_id, a.cnt " +
+                "FROM news_daily_law_agg a " +
+                "WHERE a.day BETWEEN :startDate AND :endDate",
+                period(startDate, endDate),
+                (rs, rowNum) -> new DailyLawArticleCountDto(rs.getObject(1, LocalDate.class), rs.getLong(2), rs.getLong(3))));
+    }
+
+    /**
+     * 기간 내 법 조항별 합계 (P, C, B 계산용)
+     */
+    public List<LawArticlePeriodSumDto> findLawArticlePeriodSums(LocalDate startDate, LocalDate endDate) {
+        return metrics.query("findLawArticlePeriodSums", () -> jdbc.query(
+                "SELECT m.law_article_id, SUM(m.p_score), SUM(m.positive_count), SUM(m.negative_count), SUM(m.neutral_count) " +
+                "FROM law_article_daily_metrics m " +
+                "WHERE m.day BETWEEN :startDate AND :endDate " +
+                "GROUP BY m.law_article_id",
+                period(startDate, endDate),
+                (rs, rowNum) -> new LawArticlePeriodSumDto(
+                    rs.getLong(1), rs.getDouble(2), rs.getInt(3), rs.getInt(4), rs.getInt(5))));
+    }
+
+    private static MapSqlParameterSource period(LocalDate startDate, LocalDate endDate) {
+        return new MapSqlParameterSource()
+            .addValue("startDate", startDate)
+            .addValue("endDate", endDate);
+    }
+}
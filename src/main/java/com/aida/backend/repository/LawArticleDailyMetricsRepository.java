@@ -0,0 +1,40 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.aida.backend.entity.LawArticleDailyMetrics;
+
+public interface LawArticleDailyMetricsRepository extends JpaRepository<LawArticleDailyMetrics, Long> {
+
+    /**
+     * 법 조항 1개의 일별 지표 시계열 (추이 차트용)
+     */
+    List<LawArticleDailyMetrics> findByLawArticleIdAndDayBetweenOrderByDay(
+        Long lawArticleId, LocalDate startDate, LocalDate endDate
+    );
+
+    /**
+     * 기간 시작일 직전의 마지막 행 (시계열 앞쪽의 건너뛴 날을 채우는 기준)
+     */
+    Optional<LawArticleDailyMetrics> findFirstByLawArticleIdAndDayLessThanOrderByDayDesc(
+        Long lawArticleId, LocalDate day
+    );
+
+    @Query("SELECT MAX(m.day) FROM LawArticleDailyMetrics m")
+    LocalDate findLastDay();
+
+    @Modifying
+    @Query("DELETE FROM LawArticleDailyMetrics m WHERE m.day >= :day")
+    int deleteFrom(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM LawArticleDailyMetrics m WHERE m.day BETWEEN :startDate AND :endDate")
+    int deleteBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,23 @@
+package com.aida.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.aida.backend.entity.LawArticle;
+
+public interface LawArticleRepository extends JpaRepository<LawArticle, Long> {
+
+    /**
+     * 법 조항 → 장/절 → 법률 (HierarchyIndex 적재용)
+     * [la.id, 표시명(법률명 + 조 번호 + 조 제목), 조 내용, lp.id, ls.id, law.id, la.subid]
+     */
+    @Query("SELECT la.id, CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " +
+           "la.articleContent, lp.id, ls.id, law.id, la.subid " +
+           "FROM LawArticle la " +
+           "JOIN la.lawPart lp " +
+           "JOIN lp.law law " +
+           "LEFT JOIN la.lawSection ls")
+    List<Object[]> findHierarchyRows();
+}
@@ -0,0 +1,30 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.aida.backend.entity.LawArticleVScore;
+
+public interface LawArticleVScoreRepository extends JpaRepository<LawArticleVScore, Long> {
+
+    /**
+     * 재계산 시작일 직전의 법 조항별 마지막 V 값 (재계산 초기값)
+     */
+    @Query("SELECT v FROM LawArticleVScore v " +
+           "WHERE v.day = (SELECT MAX(v2.day) FROM LawArticleVScore v2 " +
+           "               WHERE v2.lawArticleId = v.lawArticleId AND v2.day < :day)")
+    List<LawArticleVScore> findLatestBefore(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM LawArticleVScore v WHERE v.day >= :day")
+    int deleteFrom(@Param("day") LocalDate day);
+
+    @Modifying
+    @Query("DELETE FROM LawArticleVScore v WHERE v.day BETWEEN :startDate AND :endDate")
+    int deleteBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,31 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.aida.backend.entity.NewsDailyCategoryAgg;
+
+public interface NewsDailyCategoryAggRepository extends JpaRepository<NewsDailyCategoryAgg, Long> {
+
+    /**
+     * 집계 행이 있으면 건수를 더하고, 없으면 새로 만든다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO news_daily_category_agg (day, category, cnt) " +
+                   "VALUES (:day, :category, :count) " +
+                   "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)",
+           nativeQuery = true)
+    int upsertCount(
+        @Param("day") LocalDate day,
+        @Param("category") String category,
+        @Param("count") long count
+    );
+
+    // 압축 전 원본 건수 확인용 하루치 집계
+    List<NewsDailyCategoryAgg> findByDay(LocalDate day);
+}
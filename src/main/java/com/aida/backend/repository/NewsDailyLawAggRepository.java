@@ -0,0 +1,40 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.aida.backend.entity.NewsDailyLawAgg;
+
+public interface NewsDailyLawAggRepository extends JpaRepository<NewsDailyLawAgg, Long> {
+
+    /**
+     * 집계 행이 있으면 건수를 더하고, 없으면 새로 만든다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO news_daily_law_agg (day, law_article_id, cnt) " +
+                   "VALUES (:day, :lawArticleId, :count) " +
+                   "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)",
+           nativeQuery = true)
+    int upsertCount(
+        @Param("day") LocalDate day,
+        @Param("lawArticleId") Long lawArticleId,
+        @Param("count") long count
+    );
+
+    // V 시계열 재계산용 (구간 단위, 법 조항, 일자 순)
+    List<NewsDailyLawAgg> findByDayBetweenOrderByLawArticleIdAscDayAsc(LocalDate startDate, LocalDate endDate);
+
+    // 일별 지표 재계산용
+    List<NewsDailyLawAgg> findByDayBetween(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT MIN(a.day) FROM NewsDailyLawAgg a")
+    LocalDate findFirstDay();
+
+    @Query("SELECT MAX(a.day) FROM NewsDailyLawAgg a")
+    LocalDate findLastDay();
+}
@@ -1,89 +1,74 @@
 package com.aida.backend.repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import com.aida.backend.dto.CategoryArticleCountDto;
-import com.aida.backend.dto.DailyCountDto;
 import com.aida.backend.entity.News;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
 
-	// 대분류별 기간 개수
-    @Query("SELECT n.category AS category, COUNT(n) AS count " +
-           "FROM News n " +
-           "WHERE n.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY n.category")
-    List<CategoryArticleCountDto> countByDateBetweenGroupByCategories(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
-
-    
     /**
-     * (일별 데이터용) (수정 X)
+     * ⭐️ [집계] id 구간의 원본 행을 (일자, subid) 단위로 집계
+     * news_daily_law_agg 증분 갱신용 (subid → 법 조항은 HierarchyIndex 에서 찾음)
      */
-    @Query("SELECT new com.aida.backend.dto.DailyCountDto(n.category, FUNCTION('DATE', n.date), COUNT(n)) " +
+    @Query("SELECT n.day, n.subid, COUNT(n) " +
            "FROM News n " +
-           "WHERE n.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY n.category, FUNCTION('DATE', n.date)")
-    List<DailyCountDto> findDailyCountsGroupBy(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+           "WHERE n.id > :fromId AND n.id <= :toId " +
+           "GROUP BY n.day, n.subid")
+    List<Object[]> aggregateDailySubidByIdRange(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
     );
-    
+
     /**
-     * ⭐️ [수정] 법안별(조항/제목 포함) 뉴스 데이터 조회 (V, P, G, A 계산용)
+     * ⭐️ [집계] id 구간의 원본 행을 (일자, 대분류) 단위로 집계
+     * news_daily_category_agg 증분 갱신용
      */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')) as lawName, " +
-           "FUNCTION('DATE', n.date) as date, COUNT(n) as count " +
+    @Query("SELECT n.day, n.category, COUNT(n) " +
            "FROM News n " +
-           "JOIN n.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE n.date <= :endDate " +
-           "GROUP BY lawName, FUNCTION('DATE', n.date)")
-    List<Object[]> findLawNewsDataForV(@Param("endDate") LocalDateTime endDate);
+           "WHERE n.id > :fromId AND n.id <= :toId " +
+           "GROUP BY n.day, n.category")
+    List<Object[]> aggregateDailyCategoryByIdRange(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
 
     /**
-     * ⭐️ [수정] 선택 기간 내 법안별(조항/제목 포함) 언급된 날짜 수 (P 계산용)
+     * ⭐️ [압축 전 확인] 하루치 원본 중 집계 워터마크(:maxId) 이하 행의 대분류별 개수
+     * 일별 집계(news_daily_category_agg)와 대분류마다 같아야 압축
+     * [대분류, 개수]
      */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " +
-           "COUNT(DISTINCT FUNCTION('DATE', n.date)) " +
+    @Query("SELECT n.category, COUNT(n) " +
            "FROM News n " +
-           "JOIN n.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE n.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, ''))")
-    List<Object[]> findLawMentionDays(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+           "WHERE n.day = :day AND n.id <= :maxId " +
+           "GROUP BY n.category")
+    List<Object[]> countByDayUpTo(
+        @Param("day") LocalDate day,
+        @Param("maxId") Long maxId
     );
 
     /**
-     * ⭐️ [수정] 법안별(조항/제목 포함) 주차별 V 스코어 계산용 (G, A 계산)
+     * ⭐️ [압축] 하루치 원본 중 소분류 대표 기사가 아닌 행 삭제
+     * 집계 워터마크(:maxId) 이하, 즉 이미 일별 집계에 반영된 행만 대상
      */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')) as lawName, " +
-           "FUNCTION('DATE', n.date) as date, COUNT(n) as count " +
-           "FROM News n " +
-           "JOIN n.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE n.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY lawName, FUNCTION('DATE', n.date)")
-    List<Object[]> findLawNewsDataForWeeks(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+    @Modifying
+    @Query("DELETE FROM News n " +
+           "WHERE n.day = :day AND n.id <= :maxId " +
+           "AND n.id NOT IN (SELECT c.representativeNews.id FROM Category3 c WHERE c.representativeNews IS NOT NULL)")
+    int deleteUnreferencedByDay(
+        @Param("day") LocalDate day,
+        @Param("maxId") Long maxId
     );
-    
-    
-	
-}
\ No newline at end of file
+
+    @Query("SELECT MIN(n.day) FROM News n")
+    LocalDate findFirstDay();
+
+    @Query("SELECT MAX(n.id) FROM News n")
+    Long findMaxId();
+
+}
@@ -0,0 +1,97 @@
+package com.aida.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.aida.backend.dto.NewsIngestRecord;
+import com.aida.backend.dto.SocialIngestRecord;
+import com.aida.backend.entity.Sentiment;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ⭐️ 원본(news, social) 대량 INSERT (수집 API)
+ * - JPA 는 IDENTITY 키라 INSERT 를 묶지 못하므로 JDBC batch 로 직접 씀
+ * - rewriteBatchedStatements=true (datasource URL) 로 드라이버가 여러 행 INSERT 한 문장으로 바꿔 보냄
+ * - 만든 행의 최대 id 를 돌려줌 (수집 파이프라인이 집계에 커밋한 id 로 넘김), day 는 DB 생성 컬럼이라 넣지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class RawDataWriteRepository {
+
+    private static final String INSERT_NEWS =
+        "INSERT INTO news (subid, category, date, title, content, url) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_SOCIAL =
+        "INSERT INTO social (category3_id, date, title, content, url, source, sentiment, sentiment_code) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 만든 행의 최대 id
+     */
+    public long insertNews(List<NewsIngestRecord> records) {
+        return insert(INSERT_NEWS, records, (ps, news) -> {
+            ps.setObject(1, news.subid());
+            ps.setString(2, news.category());
+            ps.setObject(3, news.date());
+            ps.setString(4, news.title());
+            ps.setString(5, news.content());
+            ps.setString(6, news.url());
+        });
+    }
+
+    /**
+     * category3IdByCode: 레코드의 소분류 code → 소분류 id (호출하는 쪽에서 모두 확인된 code)
+     * sentiment_code 도 함께 채움 (집계 작업이 다시 채워도 같은 값)
+     * @return 만든 행의 최대 id
+     */
+    public long insertSocial(List<SocialIngestRecord> records, Map<String, Long> category3IdByCode) {
+        return insert(INSERT_SOCIAL, records, (ps, social) -> {
+            ps.setLong(1, category3IdByCode.get(social.category3()));
+            ps.setObject(2, social.date());
+            ps.setString(3, social.title());
+            ps.setString(4, social.content());
+            ps.setString(5, social.url());
+            ps.setString(6, social.source());
+            ps.setString(7, social.sentiment());
+            ps.setByte(8, Sentiment.fromLabel(social.sentiment()).getCode());
+        });
+    }
+
+    /**
+     * JDBC batch INSERT 후 생성된 키 중 최대값
+     * (드라이버마다 키 컬럼 이름이 달라서 (GENERATED_KEY, ID 등) 행마다 첫 값을 씀)
+     */
+    private <T> long insert(String sql, List<T> records, ParameterizedPreparedStatementSetter<T> setter) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(sql, new String[] { "id" }),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    setter.setValues(ps, records.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return records.size();
+                }
+            }, keys);
+
+        long maxId = 0;
+        for (Map<String, Object> key : keys.getKeyList()) {
+            maxId = Math.max(maxId, ((Number) key.values().iterator().next()).longValue());
+        }
+        return maxId;
+    }
+}
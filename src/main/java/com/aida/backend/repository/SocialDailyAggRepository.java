@@ -0,0 +1,35 @@
+package com.aida.backend.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.aida.backend.entity.SocialDailyAgg;
+
+public interface SocialDailyAggRepository extends JpaRepository<SocialDailyAgg, Long> {
+
+    /**
+     * 집계 행이 있으면 건수를 더하고, 없으면 새로 만든다
+     */
+    @Modifying
+    @Query(value = "INSERT INTO social_sentiment_daily_agg (day, category3_id, sentiment_code, cnt) " +
+                   "VALUES (:day, :category3Id, :sentimentCode, :count) " +
+                   "ON DUPLICATE KEY UPDATE cnt = cnt + VALUES(cnt)",
+           nativeQuery = true)
+    int upsertCount(
+        @Param("day") LocalDate day,
+        @Param("category3Id") Long category3Id,
+        @Param("sentimentCode") byte sentimentCode,
+        @Param("count") long count
+    );
+
+    @Query("SELECT MIN(a.day) FROM SocialDailyAgg a")
+    LocalDate findFirstDay();
+
+    // 압축 전 원본 건수 확인용 하루치 집계
+    List<SocialDailyAgg> findByDay(LocalDate day);
+}
@@ -1,199 +1,108 @@
 package com.aida.backend.repository;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import com.aida.backend.dto.CategoryArticleCountDto;
-import com.aida.backend.dto.CategoryStanceCountDto;
-import com.aida.backend.dto.DailyCountDto;
-import com.aida.backend.dto.DailyStanceCountDto;
-import com.aida.backend.dto.SocialNetworkQueryDto;
-import com.aida.backend.dto.SocialOpinionQueryDto;
-// ... (다른 DTO import)
+import com.aida.backend.entity.Sentiment;
 import com.aida.backend.entity.Social;
 
 public interface SocialRepository extends JpaRepository<Social, Long> {
 
     /**
-     * (요약용) 카테고리별 '전체' 개수 (수정 X)
+     * 소분류별 sentiment 일별 개수
+     * - 일별 지표 재계산(C, B): 소분류 → 법 조항
+     * (대시보드 조회는 DashboardReadRepository)
+     * [일자, 소분류 id, Sentiment, 개수]
      */
-    @Query("SELECT c1.name AS category, COUNT(s) AS count " +
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.category2 c2 " +
-           "JOIN c2.category1 c1 " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY c1.name")
-    List<CategoryArticleCountDto> countByDateBetweenGroupByCategories(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
-	
-    /**
-     * (일별 데이터용) (수정 X)
-     */
-    @Query("SELECT new com.aida.backend.dto.DailyCountDto(c1.name, FUNCTION('DATE', s.date), COUNT(s)) " +
-            "FROM Social s " +
-            "JOIN s.category3 c3 " +
-            "JOIN c3.category2 c2 " +
-            "JOIN c2.category1 c1 " +
-            "WHERE s.date BETWEEN :startDate AND :endDate " +
-            "GROUP BY c1.name, FUNCTION('DATE', s.date)")
-     List<DailyCountDto> findDailyCountsGroupBy(
-         @Param("startDate") LocalDateTime startDate,
-         @Param("endDate") LocalDateTime endDate
-     );
-    
-    
-    /**
-     * 스탠스별 일별 개수 (수정 X)
-     */
-    @Query("SELECT new com.aida.backend.dto.DailyStanceCountDto(" +
-            "FUNCTION('DATE', s.date), s.sentiment, COUNT(s)) " +
-            "FROM Social s " +
-            "WHERE s.date BETWEEN :startDate AND :endDate " +
-            "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지') " +
-            "GROUP BY FUNCTION('DATE', s.date), s.sentiment")
-     List<DailyStanceCountDto> findDailyStanceCounts(
-         @Param("startDate") LocalDateTime startDate,
-         @Param("endDate") LocalDateTime endDate
-     );
-    
-    /**
-     * 카테고리별 스탠스 개수 (수정 X)
-     */
-    @Query("SELECT new com.aida.backend.dto.CategoryStanceCountDto(" +
-           "c1.name, s.sentiment, COUNT(s)) " +
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.category2 c2 " +
-           "JOIN c2.category1 c1 " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지') " +
-           "GROUP BY c1.name, s.sentiment")
-    List<CategoryStanceCountDto> findCategoryStanceCounts(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
-    
-    
-    /**
-     * ⭐️ [수정] 법안별(조항/제목 포함) sentiment 집계 (C, B 계산용)
-     */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " +
-           "s.sentiment, COUNT(s) " +
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), s.sentiment")
-    List<Object[]> findLawSentimentData(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+    @Query("SELECT a.day, a.category3Id, a.sentiment, SUM(a.count) " +
+           "FROM SocialDailyAgg a " +
+           "WHERE a.day BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.day, a.category3Id, a.sentiment")
+    List<Object[]> findDailyCategory3SentimentCounts(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
     );
 
     /**
-     * ⭐️ [수정] 법안별(조항/제목 포함) 댓글 총 개수
+     * ⭐️ [집계] id 구간의 원본 행을 (일자, 소분류 id, sentiment) 단위로 집계
+     * social_daily_agg 증분 갱신용
      */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " +
-           "COUNT(s) " +
+    @Query("SELECT s.day, s.category3.id, s.sentimentCode, COUNT(s) " +
            "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "GROUP BY CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, ''))")
-    List<Object[]> findLawCommentCounts(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+           "WHERE s.id > :fromId AND s.id <= :toId " +
+           "GROUP BY s.day, s.category3.id, s.sentimentCode")
+    List<Object[]> aggregateDailyByIdRange(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
     );
 
     /**
-     * ⭐️ [수정] 법안별(조항/제목 포함) 스탠스 집계
-     */
-    @Query("SELECT CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " +
-           "s.sentiment, COUNT(s) " +
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지') " +
-           "GROUP BY CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), s.sentiment")
-    List<Object[]> findLawStanceCounts(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
-    );
-    
-    /**
-     * 카테고리별 스탠스 개수 (sentiment 기준)
-     * ⭐️ [수정] 3개가 아닌 6개 sentiment를 모두 포함하도록 IN 절 수정
+     * ⭐️ [집계] id 구간 원본 행의 sentiment 문자열 → 1바이트 코드 (Sentiment 코드와 같게 유지)
+     * 집계 전에 같은 트랜잭션에서 실행, 기존 행은 집계 워터마크가 0부터 따라잡으며 채워짐
      */
-    @Query("SELECT new com.aida.backend.dto.CategoryStanceCountDto(" +
-           "c1.name, s.sentiment, COUNT(s)) " +
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.category2 c2 " +
-           "JOIN c2.category1 c1 " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지') " + 
-           "GROUP BY c1.name, s.sentiment")
-    // ⭐️ 1. 메서드명 변경
-    List<CategoryStanceCountDto> findCategoryStanceCountsForHeatmap( 
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate
+    @Modifying
+    @Query(value = "UPDATE social SET sentiment_code = CASE sentiment " +
+                   "WHEN '찬성_개정강화' THEN 1 " +
+                   "WHEN '찬성_폐지완화' THEN 2 " +
+                   "WHEN '찬성_현상유지' THEN 3 " +
+                   "WHEN '반대_현상유지' THEN 4 " +
+                   "WHEN '반대_폐지완화' THEN 5 " +
+                   "WHEN '반대_개정강화' THEN 6 " +
+                   "WHEN '중립' THEN 7 " +
+                   "ELSE 0 END " +
+                   "WHERE id > :fromId AND id <= :toId",
+           nativeQuery = true)
+    int assignSentimentCodes(
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
     );
-    
+
     /**
-     * ⭐️ [신규 1] 네트워크 그래프용 '집계(Count)' 데이터 조회 (LawArticle 기준)
+     * ⭐️ [압축 전 확인] 하루치 원본 중 집계 워터마크(:maxId) 이하 행의 (소분류 id, sentiment)별 개수
+     * 일별 집계와 그룹마다 같아야 압축 (집계에서 빠진 행을 지우지 않도록)
+     * [소분류 id, Sentiment, 개수]
      */
-    @Query("SELECT new com.aida.backend.dto.SocialNetworkQueryDto(" +
-           "CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " + // lawArticleName
-           "la.articleContent, " + // articleContent
-           "c3.name, " +           // cat3Name
-           "s.sentiment, COUNT(s)) " +
+    @Query("SELECT s.category3.id, s.sentimentCode, COUNT(s) " +
            "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지') " +
-           "GROUP BY CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), la.articleContent, c3.name, s.sentiment")
-    List<SocialNetworkQueryDto> findNetworkGraphDataByLawArticle(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+           "WHERE s.day = :day AND s.id <= :maxId " +
+           "GROUP BY s.category3.id, s.sentimentCode")
+    List<Object[]> countByDayUpTo(
+        @Param("day") LocalDate day,
+        @Param("maxId") Long maxId
     );
 
     /**
-     * ⭐️ [신규 2] 네트워크 그래프용 '대표 의견(content)' 조회
+     * ⭐️ [압축] 하루치 원본 중 (소분류, sentiment 코드)별 id 순 상위 :keep 건만 남기고 삭제
+     * - 집계 워터마크(:maxId) 이하, 즉 이미 일별 집계에 반영된 행만 대상
+     * - 네트워크 그래프 대표 의견도 그룹별 id 순 상위 N건이므로 keep >= N 이면 결과가 같음
+     * - 다중 테이블 DELETE 대신 IN (창 함수 파생 테이블은 먼저 만들어지므로 같은 테이블을 읽어도 됨, H2 에서도 실행)
      */
-    @Query("SELECT new com.aida.backend.dto.SocialOpinionQueryDto(" +
-           "CONCAT(law.lawName, ' ', la.articleNumber, COALESCE(la.articleTitle, '')), " + // lawArticleName
-           "c3.name, " +           // cat3Name
-           "s.sentiment, " +       // sentiment
-           "s.content) " +         // content
-           "FROM Social s " +
-           "JOIN s.category3 c3 " +
-           "JOIN c3.lawArticle la " +
-           "JOIN la.lawPart lp " +
-           "JOIN lp.law law " +
-           "WHERE s.date BETWEEN :startDate AND :endDate " +
-           "AND s.sentiment IN ('찬성_개정강화', '찬성_폐지완화', '반대_현상유지')")
-    List<SocialOpinionQueryDto> findNetworkGraphOpinions(
-        @Param("startDate") LocalDateTime startDate,
-        @Param("endDate") LocalDateTime endDate
+    @Modifying
+    @Query(value = "DELETE FROM social " +
+                   "WHERE day = :day AND id IN (" +
+                   "SELECT r.id FROM (" +
+                   "SELECT id, ROW_NUMBER() OVER (PARTITION BY category3_id, sentiment_code ORDER BY id) AS rn " +
+                   "FROM social " +
+                   "WHERE day = :day AND id <= :maxId" +
+                   ") r WHERE r.rn > :keep" +
+                   ")",
+           nativeQuery = true)
+    int deleteUnsampledByDay(
+        @Param("day") LocalDate day,
+        @Param("maxId") Long maxId,
+        @Param("keep") int keep
     );
-    
-    
+
+    @Query("SELECT MIN(s.day) FROM Social s")
+    LocalDate findFirstDay();
+
+    @Query("SELECT MAX(s.id) FROM Social s")
+    Long findMaxId();
     
     
 }
\ No newline at end of file
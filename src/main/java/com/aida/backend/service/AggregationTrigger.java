@@ -0,0 +1,74 @@
+package com.aida.backend.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수집 파이프라인의 집계 단계: 묶음이 커밋될 때마다 일별 집계 건수 반영을 요청
+ * - 건수만 접어 넣고 워터마크를 올림 (id 워터마크 이후 커밋된 행만 접으므로 같은 행을 두 번 세지 않음)
+ * - 커밋한 최대 id 를 함께 넘겨 commit-lag 를 기다리지 않고 방금 커밋한 묶음까지 접음
+ * - 요청은 최대 1건만 쌓임: 반영 중에 커밋된 묶음들은 다음 반영 한 번에 함께 처리
+ * - 파생 테이블(V / SCORE 지표) 재계산과 캐시 무효화는 묶음마다 하지 않고
+ *   주기 갱신(aida.aggregation.refresh-interval-ms)이 그동안 쌓인 dirty 구간을 한 번에 처리
+ */
+@Slf4j
+@Component
+public class AggregationTrigger implements DisposableBean {
+
+    private final DailyAggregationService dailyAggregationService;
+
+    private final BlockingQueue<Boolean> requests = new ArrayBlockingQueue<>(1);
+
+    // 워터마크 이름 → 아직 접지 않은 커밋의 최대 id
+    private final Map<String, Long> committedIds = new ConcurrentHashMap<>();
+    private final Thread worker;
+
+    public AggregationTrigger(DailyAggregationService dailyAggregationService) {
+        this.dailyAggregationService = dailyAggregationService;
+        this.worker = Thread.ofVirtual().name("aggregation-trigger").start(this::run);
+    }
+
+    /**
+     * watermarkName 원본에 maxId 까지 커밋됨 → 반영 요청
+     */
+    public void committed(String watermarkName, long maxId) {
+        committedIds.merge(watermarkName, maxId, Math::max);
+        requests.offer(Boolean.TRUE);
+    }
+
+    @Override
+    public void destroy() {
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                requests.take();
+                dailyAggregationService.foldCounts(drainCommitted());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // 다음 요청(또는 주기 갱신)에서 같은 구간을 다시 시도
+                log.warn("수집 후 집계 반영 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private Map<String, Long> drainCommitted() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String name : committedIds.keySet()) {
+            Long id = committedIds.remove(name);
+            if (id != null) drained.put(name, id);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,58 @@
+package com.aida.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * id 워터마크 집계가 안전하게 접어 넣을 수 있는 최대 id
+ * - AUTO_INCREMENT id 는 INSERT 시점에 정해지고 커밋 순서는 다를 수 있음
+ *   (id 10 이 먼저 커밋되고 id 9 는 아직 진행 중) → MAX(id) 까지 접으면 워터마크가 9를 영영 건너뜀
+ * - 그래서 관측한 MAX(id) 를 lag 만큼 묵힌 뒤에야 안전한 id 로 인정
+ *   (관측 시점에 진행 중이던 INSERT 트랜잭션은 lag 안에 커밋 / 롤백된다고 가정)
+ * - 재시작 직후에는 관측 기록이 없으므로 첫 lag 동안은 이전 워터마크 그대로
+ * - 수집 파이프라인이 커밋한 id 는 기다리지 않고 바로 인정 (committed)
+ * - 스레드 안전하지 않음: DailyAggregationService 가 갱신 잠금 안에서만 호출
+ */
+class CommitHorizon {
+
+    private record Observation(Instant at, long maxId) {}
+
+    private final Duration lag;
+    private final Clock clock;
+    private final Deque<Observation> observations = new ArrayDeque<>();
+
+    private long safeId;
+
+    CommitHorizon(Duration lag, Clock clock) {
+        this.lag = lag;
+        this.clock = clock;
+    }
+
+    /**
+     * 이번에 관측한 MAX(id) 를 기록하고, lag 이상 지난 관측 중 가장 큰 id 를 돌려줌 (없으면 0)
+     */
+    long advance(Long maxId) {
+        Instant now = clock.instant();
+        if (maxId != null) {
+            observations.addLast(new Observation(now, maxId));
+        }
+
+        Instant settled = now.minus(lag);
+        while (!observations.isEmpty() && !observations.peekFirst().at().isAfter(settled)) {
+            safeId = Math.max(safeId, observations.pollFirst().maxId());
+        }
+        return safeId;
+    }
+
+    /**
+     * 수집 파이프라인이 커밋한 최대 id 를 바로 안전한 id 로 인정
+     * (테이블마다 쓰기 스레드 하나가 id 순서대로 커밋하므로 그 이하 id 는 이미 커밋 / 롤백이 끝남,
+     *  같은 테이블에 수집 API 밖에서 동시에 INSERT 하는 곳은 없다는 가정)
+     */
+    void committed(long id) {
+        safeId = Math.max(safeId, id);
+    }
+}
@@ -0,0 +1,293 @@
+package com.aida.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.entity.AggregationWatermark;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.repository.AggregationWatermarkRepository;
+import com.aida.backend.repository.LawArticleDailyMetricsRepository;
+import com.aida.backend.repository.NewsDailyCategoryAggRepository;
+import com.aida.backend.repository.NewsDailyLawAggRepository;
+import com.aida.backend.repository.NewsRepository;
+import com.aida.backend.repository.SocialDailyAggRepository;
+import com.aida.backend.repository.SocialRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 테이블(social, news)에 새로 들어온 행을 일별 집계 테이블에 증분 반영
+ * (크롤러가 외부에서 INSERT 하므로 id 워터마크 기준으로 주기적으로 따라잡는다)
+ *
+ * 보장: 커밋된 원본 행은 정확히 한 번 집계된다 (단, INSERT 트랜잭션이 commit-lag 안에 끝나는 경우)
+ * - 워터마크는 (lastId, toId] 를 접은 뒤 toId 로 올라가므로, toId 이하 id 가 나중에 커밋되면 영영 빠짐
+ * - 그래서 toId 는 MAX(id) 가 아니라 CommitHorizon 의 안전한 id (commit-lag 전에 관측한 MAX(id)) 로 제한
+ * - 대가로 외부에서 INSERT 한 새 행은 최소 commit-lag 뒤에 집계에 보임
+ * - 수집 API 로 들어온 행은 파이프라인이 커밋한 id 까지 바로 접으므로 묶음 커밋 직후 보임
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyAggregationService {
+
+    // sentiment 코드 집계 테이블로 옮기면서 이름을 바꿈 → 새 워터마크가 0부터 전체를 다시 집계
+    static final String SOCIAL_DAILY_AGG = "social_sentiment_daily_agg";
+    static final String NEWS_DAILY_AGG = "news_daily_agg";
+
+    private final SocialRepository socialRepository;
+    private final SocialDailyAggRepository socialDailyAggRepository;
+    private final NewsRepository newsRepository;
+    private final NewsDailyLawAggRepository newsDailyLawAggRepository;
+    private final NewsDailyCategoryAggRepository newsDailyCategoryAggRepository;
+    private final AggregationWatermarkRepository watermarkRepository;
+    private final LawArticleDailyMetricsRepository metricsRepository;
+    private final LawVScoreService lawVScoreService;
+    private final LawMetricsService lawMetricsService;
+    private final HierarchyIndex hierarchyIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 트랜잭션에서 처리할 원본 id 구간 크기 (최초 백필 시 트랜잭션이 너무 커지지 않도록)
+    @Value("${aida.aggregation.batch-size:50000}")
+    private long batchSize;
+
+    // 외부 INSERT 트랜잭션이 끝나기를 기다리는 시간 (이보다 오래 걸리는 트랜잭션의 행은 집계에서 빠질 수 있음)
+    @Value("${aida.aggregation.commit-lag:PT30S}")
+    private Duration commitLag;
+
+    // 워터마크 이름 → 안전한 id (refreshLock 안에서만 사용)
+    private final Map<String, CommitHorizon> horizons = new HashMap<>();
+
+    // synchronized 대신 잠금: DB 작업 중 가상 스레드가 캐리어 스레드를 붙잡지 않도록
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    /**
+     * 일별 집계 반영 + 파생 테이블 재계산 (주기 실행)
+     */
+    @Scheduled(
+        initialDelayString = "${aida.aggregation.initial-delay-ms:10000}",
+        fixedDelayString = "${aida.aggregation.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            refreshSocial();
+            refreshNews();
+            rebuildDerived();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 일별 집계만 반영 (수집 파이프라인이 묶음 커밋마다 호출)
+     * committedIds: 워터마크 이름 → 파이프라인이 커밋한 최대 id (commit-lag 를 기다리지 않고 여기까지 접음)
+     * 접은 날짜는 워터마크의 dirtyFrom 에 쌓이고, 파생 테이블은 다음 주기 refresh 가 한 번에 재계산
+     */
+    public void foldCounts(Map<String, Long> committedIds) {
+        refreshLock.lock();
+        try {
+            committedIds.forEach((name, id) -> horizon(name).committed(id));
+            refreshSocial();
+            refreshNews();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * social → social.sentiment_code, social_sentiment_daily_agg
+     */
+    void refreshSocial() {
+        foldNewRows(SOCIAL_DAILY_AGG, socialRepository.findMaxId(), (fromId, toId) -> {
+            // 원본 행의 sentiment 코드를 먼저 채우고 코드 기준으로 집계
+            socialRepository.assignSentimentCodes(fromId, toId);
+
+            LocalDate earliest = null;
+            for (Object[] row : socialRepository.aggregateDailyByIdRange(fromId, toId)) {
+                if (row[0] == null) continue; // 날짜 없는 행은 어떤 기간 조회에도 포함되지 않음
+
+                LocalDate day = toLocalDate(row[0]);
+                Long category3Id = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+                Sentiment sentiment = row[2] != null ? (Sentiment) row[2] : Sentiment.UNKNOWN;
+                long count = ((Number) row[3]).longValue();
+
+                socialDailyAggRepository.upsertCount(day, category3Id, sentiment.getCode(), count);
+                earliest = earlier(earliest, day);
+            }
+            return earliest;
+        });
+    }
+
+    /**
+     * news → news_daily_law_agg, news_daily_category_agg
+     * (두 집계는 같은 id 구간을 같은 트랜잭션에서 반영하므로 워터마크 하나로 관리)
+     */
+    void refreshNews() {
+        foldNewRows(NEWS_DAILY_AGG, newsRepository.findMaxId(), (fromId, toId) -> {
+            LocalDate earliest = null;
+            List<Object[]> subidCounts = newsRepository.aggregateDailySubidByIdRange(fromId, toId);
+
+            // subid → 소분류 → 법 조항은 계층 인덱스에서 찾음
+            // (처음 보는 subid가 있으면 새 소분류가 추가된 것일 수 있으므로 한 번 다시 읽음)
+            HierarchySnapshot hierarchy = hierarchyIndex.current();
+            boolean unknownSubid = subidCounts.stream()
+                .anyMatch(row -> row[1] != null && !hierarchy.category3IdBySubid().containsKey(((Number) row[1]).longValue()));
+            HierarchySnapshot resolved = unknownSubid ? hierarchyIndex.refresh() : hierarchy;
+
+            Map<LocalDate, Map<Long, Long>> lawCounts = new HashMap<>();
+            for (Object[] row : subidCounts) {
+                if (row[0] == null || row[1] == null) continue;
+
+                Long category3Id = resolved.category3IdBySubid().get(((Number) row[1]).longValue());
+                Long lawArticleId = category3Id != null ? resolved.lawArticleId(category3Id) : null;
+                if (lawArticleId == null) continue; // 법 조항과 연결되지 않은 소분류
+
+                lawCounts.computeIfAbsent(toLocalDate(row[0]), k -> new HashMap<>())
+                    .merge(lawArticleId, ((Number) row[2]).longValue(), Long::sum);
+            }
+
+            for (Map.Entry<LocalDate, Map<Long, Long>> dayEntry : lawCounts.entrySet()) {
+                LocalDate day = dayEntry.getKey();
+                dayEntry.getValue().forEach((lawArticleId, count) ->
+                    newsDailyLawAggRepository.upsertCount(day, lawArticleId, count));
+                earliest = earlier(earliest, day);
+            }
+
+            for (Object[] row : newsRepository.aggregateDailyCategoryByIdRange(fromId, toId)) {
+                if (row[0] == null) continue;
+
+                LocalDate day = toLocalDate(row[0]);
+                String category = row[1] != null ? (String) row[1] : "";
+                long count = ((Number) row[2]).longValue();
+
+                newsDailyCategoryAggRepository.upsertCount(day, category, count);
+                earliest = earlier(earliest, day);
+            }
+            return earliest;
+        });
+    }
+
+    /**
+     * 집계 반영 이후 파생 테이블(V 시계열 → 일별 SCORE 지표)을 바뀐 날짜부터 재계산
+     * - 재계산은 구간마다 따로 커밋하므로 바깥 트랜잭션으로 묶지 않음
+     * - dirty 표시는 재계산이 모두 끝난 뒤에 지움 (중간에 실패하면 다음 갱신에서 같은 날짜부터 다시)
+     * 바뀐 시작일을 이벤트로 알려 캐시가 무효화되도록 한다.
+     */
+    void rebuildDerived() {
+        DerivedRange range = transactionTemplate.execute(status -> {
+            LocalDate newsDirty = dirtyFrom(NEWS_DAILY_AGG);
+            LocalDate socialDirty = dirtyFrom(SOCIAL_DAILY_AGG);
+
+            // 파생 테이블이 비어 있으면 (최초 배포) 집계 전체 기간을 대상으로
+            LocalDate vFrom = newsDirty;
+            if (lawVScoreService.isEmpty()) {
+                vFrom = earlier(vFrom, newsDailyLawAggRepository.findFirstDay());
+            }
+
+            LocalDate today = LocalDate.now();
+            LocalDate metricsFrom = earlier(vFrom, socialDirty);
+            LocalDate lastMetricsDay = metricsRepository.findLastDay();
+
+            if (lastMetricsDay == null) {
+                metricsFrom = earlier(metricsFrom,
+                    earlier(newsDailyLawAggRepository.findFirstDay(), socialDailyAggRepository.findFirstDay()));
+            } else if (lastMetricsDay.isBefore(today)) {
+                // 새 데이터가 없어도 날짜가 바뀌면 V 감쇠가 반영된 오늘 행이 필요
+                metricsFrom = earlier(metricsFrom, lastMetricsDay.plusDays(1));
+            }
+
+            return new DerivedRange(vFrom, metricsFrom, today);
+        });
+
+        if (range.vFrom() != null) {
+            lawVScoreService.rebuildFrom(range.vFrom());
+        }
+        if (range.metricsFrom() != null) {
+            lawMetricsService.rebuildFrom(range.metricsFrom(), range.today());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            watermarkRepository.findById(NEWS_DAILY_AGG).ifPresent(watermark -> watermark.setDirtyFrom(null));
+            watermarkRepository.findById(SOCIAL_DAILY_AGG).ifPresent(watermark -> watermark.setDirtyFrom(null));
+        });
+
+        if (range.metricsFrom() != null) {
+            eventPublisher.publishEvent(new DashboardDataChangedEvent(range.metricsFrom()));
+        }
+    }
+
+    /**
+     * 파생 테이블 재계산 범위 (없으면 null)
+     */
+    private record DerivedRange(LocalDate vFrom, LocalDate metricsFrom, LocalDate today) {}
+
+    private LocalDate dirtyFrom(String name) {
+        return watermarkRepository.findById(name)
+            .map(AggregationWatermark::getDirtyFrom)
+            .orElse(null);
+    }
+
+    /**
+     * 워터마크 이후 ~ 안전한 id 까지를 batchSize 단위로 잘라, 구간마다 집계 반영과 워터마크 갱신을 한 트랜잭션으로 처리
+     * folder는 이번 구간에서 건드린 가장 이른 집계 일자를 돌려주고, 워터마크의 dirtyFrom에 누적된다.
+     */
+    private void foldNewRows(String name, Long maxId, BiFunction<Long, Long, LocalDate> folder) {
+        long safeId = horizon(name).advance(maxId);
+        long lastId = currentWatermark(name);
+
+        while (lastId < safeId) {
+            long fromId = lastId;
+            long toId = Math.min(fromId + batchSize, safeId);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDate touched = folder.apply(fromId, toId);
+
+                AggregationWatermark watermark = watermarkRepository.findById(name)
+                    .orElseGet(() -> new AggregationWatermark(name, 0L));
+                watermark.setLastId(toId);
+                watermark.setDirtyFrom(earlier(watermark.getDirtyFrom(), touched));
+                watermarkRepository.save(watermark);
+            });
+
+            lastId = toId;
+        }
+    }
+
+    private CommitHorizon horizon(String name) {
+        return horizons.computeIfAbsent(name, k -> new CommitHorizon(commitLag, Clock.systemUTC()));
+    }
+
+    private long currentWatermark(String name) {
+        return watermarkRepository.findById(name)
+            .map(AggregationWatermark::getLastId)
+            .orElse(0L);
+    }
+
+    private LocalDate earlier(LocalDate a, LocalDate b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isBefore(b) ? a : b;
+    }
+
+    // 일자 결과는 드라이버에 따라 java.sql.Date 또는 LocalDate
+    private LocalDate toLocalDate(Object date) {
+        if (date instanceof java.sql.Date) {
+            return ((java.sql.Date) date).toLocalDate();
+        } else if (date instanceof LocalDate) {
+            return (LocalDate) date;
+        }
+        throw new IllegalStateException("Unexpected date type: " + date.getClass());
+    }
+}
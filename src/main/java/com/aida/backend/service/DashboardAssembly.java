@@ -0,0 +1,264 @@
+package com.aida.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.aida.backend.domain.Stance;
+import com.aida.backend.dto.HeatmapLawDto;
+import com.aida.backend.dto.HeatmapResponse;
+import com.aida.backend.dto.KpiDailyData;
+import com.aida.backend.dto.KpiJson;
+import com.aida.backend.dto.KpiSummary;
+import com.aida.backend.dto.LawRankDto;
+import com.aida.backend.dto.NetworkGraphResponse;
+import com.aida.backend.dto.NetworkIncidentDto;
+import com.aida.backend.dto.NetworkNodeDto;
+import com.aida.backend.dto.NetworkStanceDetailDto;
+import com.aida.backend.dto.SocialBarDto;
+import com.aida.backend.dto.SocialBarResponse;
+import com.aida.backend.dto.SocialNetworkQueryDto;
+import com.aida.backend.dto.StanceAreaDto;
+import com.aida.backend.dto.StanceAreaResponse;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.service.HierarchySnapshot.LawArticleNode;
+
+/**
+ * 대시보드 응답 조립 (조회 결과 / 일별 조각만으로 계산, DB / 스프링 의존 없음)
+ * (DashboardService 와 benchmarks 모듈이 같은 코드를 씀)
+ */
+public final class DashboardAssembly {
+
+    private DashboardAssembly() {
+    }
+
+    /**
+     * KPI 요약 (대분류마다 기간 합계 + 일별 데이터)
+     */
+    public static Map<String, KpiJson> buildKpiSummary(List<String> allCategories, List<DaySegment> segments) {
+
+        Map<String, KpiJson> response = new LinkedHashMap<>();
+
+        // === 3. 데이터 조합 (DB 접근 X) ===
+        for (String categoryName : allCategories) {
+
+            // === 4. 일별 데이터 조립 (날짜 순, 뉴스/댓글이 하나라도 있는 날만) ===
+            List<KpiDailyData> finalDailyDataList = new ArrayList<>();
+            for (DaySegment segment : segments) {
+                KpiDailyData dailyData = toKpiDailyData(categoryName, segment);
+                if (dailyData != null) finalDailyDataList.add(dailyData);
+            }
+
+            // === 5~6. Summary 계산 (기간 합계 = 일별 합계, 성장률) ===
+            KpiJson kpiJson = new KpiJson(summarizeCategory(categoryName, segments), finalDailyDataList);
+
+            response.put(categoryName, kpiJson);
+        }
+
+        return response;
+    }
+
+    /**
+     * 대분류 1개의 하루치 KPI (뉴스/댓글이 모두 없으면 null)
+     */
+    static KpiDailyData toKpiDailyData(String categoryName, DaySegment segment) {
+        int newsCount = segment.newsByCategory().getOrDefault(categoryName, 0);
+        int socialCount = segment.socialByCategory().getOrDefault(categoryName, 0);
+
+        if (newsCount == 0 && socialCount == 0) return null;
+
+        // LocalDate를 String으로 변환 (예: "2025-11-03")
+        return new KpiDailyData(segment.date().toString(), newsCount, socialCount);
+    }
+
+    /**
+     * 대분류 1개의 기간 합계 + 일별 성장률 평균 (일별 데이터 목록 없이 조각을 한 번 훑어 계산)
+     */
+    static KpiSummary summarizeCategory(String categoryName, List<DaySegment> segments) {
+        long totalArticles = 0;
+        int totalComments = 0;
+        GrowthRate newsGrowthRate = new GrowthRate();
+        GrowthRate socialGrowthRate = new GrowthRate();
+
+        for (DaySegment segment : segments) {
+            int newsCount = segment.newsByCategory().getOrDefault(categoryName, 0);
+            int socialCount = segment.socialByCategory().getOrDefault(categoryName, 0);
+
+            if (newsCount == 0 && socialCount == 0) continue;
+
+            totalArticles += newsCount;
+            totalComments += socialCount;
+            newsGrowthRate.add(newsCount);
+            socialGrowthRate.add(socialCount);
+        }
+
+        return new KpiSummary(totalArticles, totalComments, newsGrowthRate.average(), socialGrowthRate.average());
+    }
+
+    /**
+     * stance-area (일별 스탠스, 날짜 순)
+     */
+    public static StanceAreaResponse buildStanceArea(List<DaySegment> segments) {
+        // 최종 결과 리스트 생성
+        List<StanceAreaDto> data = new ArrayList<>();
+        
+        for (DaySegment segment : segments) {
+            StanceCounts stances = segment.stances();
+            if (stances.isEmpty()) continue;
+
+            data.add(new StanceAreaDto(segment.date().toString(),
+                stances.get(Stance.STRENGTHEN), stances.get(Stance.RELAX), stances.get(Stance.KEEP)));
+        }
+
+        return new StanceAreaResponse(data);
+    }
+
+    /**
+     * social-bar (대분류별 스탠스)
+     */
+    public static SocialBarResponse buildSocialBar(Map<String, StanceCounts> categoryStanceMap) {
+        // 2. 최종 결과 리스트 생성
+        List<SocialBarDto> data = new ArrayList<>();
+        
+        for (Map.Entry<String, StanceCounts> entry : categoryStanceMap.entrySet()) {
+            StanceCounts stances = entry.getValue();
+            data.add(new SocialBarDto(entry.getKey(),
+                stances.get(Stance.STRENGTHEN), stances.get(Stance.RELAX), stances.get(Stance.KEEP)));
+        }
+
+        return new SocialBarResponse(data);
+    }
+
+    /**
+     * 기간 내 일별 조각의 (대분류 → 스탠스 → 개수)를 합산
+     */
+    public static Map<String, StanceCounts> sumCategoryStances(List<DaySegment> segments) {
+        Map<String, StanceCounts> result = new TreeMap<>();
+
+        for (DaySegment segment : segments) {
+            for (Map.Entry<String, StanceCounts> entry : segment.categoryStances().entrySet()) {
+                result.computeIfAbsent(entry.getKey(), k -> new StanceCounts()).addAll(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 히트맵 (대분류 × 스탠스 피벗)
+     */
+    public static HeatmapResponse buildHeatmap(Map<String, StanceCounts> pivotMap) {
+        // 5. 임시 Map을 최종 DTO 리스트로 변환
+        List<HeatmapLawDto> dtoList = new ArrayList<>();
+        for (Map.Entry<String, StanceCounts> entry : pivotMap.entrySet()) {
+            String lawName = entry.getKey();
+            StanceCounts stances = entry.getValue();
+
+            dtoList.add(new HeatmapLawDto(
+                lawName,
+                stances.get(Stance.STRENGTHEN), // 집계가 없으면 0
+                stances.get(Stance.RELAX),
+                stances.get(Stance.KEEP)
+            ));
+        }
+
+        // 6. "laws" 키로 감싸서 반환
+        return new HeatmapResponse(dtoList);
+    }
+
+    /**
+     * 네트워크 그래프 (순위 순서대로 법 조항 노드)
+     */
+    public static NetworkGraphResponse buildNetworkGraph(
+        List<LawRankDto> ranking,
+        List<SocialNetworkQueryDto> dbCounts,
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap,
+        HierarchySnapshot hierarchy
+    ) {
+        // === 3. 데이터 맵으로 변환 (전체 데이터) ===
+        Map<Long, Map<String, Map<Sentiment, Integer>>> countMap = groupNetworkCounts(dbCounts);
+        
+        // === 4. [수정] '순서가 보장된' Top 5 목록을 기준으로 최종 DTO 조립 ===
+        List<NetworkNodeDto> nodes = new ArrayList<>();
+
+        // ⭐️ [수정] Set(top5LawNames)이 아닌, 순서가 있는 순위 List로 루프
+        // ⭐️ nodes 리스트에 1등, 2등, 3등... 순서대로 추가됨
+        for (LawRankDto law : ranking) {
+            nodes.add(buildNetworkNode(law,
+                countMap.getOrDefault(law.lawArticleId(), Collections.emptyMap()),
+                opinionMap.getOrDefault(law.lawArticleId(), Collections.emptyMap()), hierarchy));
+        }
+
+        return new NetworkGraphResponse(nodes);
+    }
+
+    /**
+     * 법 조항 → 소분류명 → sentiment → 개수
+     */
+    public static Map<Long, Map<String, Map<Sentiment, Integer>>> groupNetworkCounts(List<SocialNetworkQueryDto> dbCounts) {
+        Map<Long, Map<String, Map<Sentiment, Integer>>> countMap = new HashMap<>();
+        for (SocialNetworkQueryDto countResult : dbCounts) {
+            countMap
+                .computeIfAbsent(countResult.lawArticleId(), k -> new HashMap<>())
+                .computeIfAbsent(countResult.cat3Name(), k -> new EnumMap<>(Sentiment.class))
+                .merge(countResult.sentiment(), countResult.count().intValue(), Integer::sum);
+        }
+        return countMap;
+    }
+
+    /**
+     * 법 조항 1개의 소분류명 → sentiment → 개수 (스트리밍: 노드를 쓸 때 그 법 조항 행만 모음)
+     */
+    static Map<String, Map<Sentiment, Integer>> groupNetworkCounts(List<SocialNetworkQueryDto> dbCounts, Long lawArticleId) {
+        Map<String, Map<Sentiment, Integer>> cat3CountMap = new HashMap<>();
+        for (SocialNetworkQueryDto countResult : dbCounts) {
+            if (!lawArticleId.equals(countResult.lawArticleId())) continue;
+            cat3CountMap
+                .computeIfAbsent(countResult.cat3Name(), k -> new EnumMap<>(Sentiment.class))
+                .merge(countResult.sentiment(), countResult.count().intValue(), Integer::sum);
+        }
+        return cat3CountMap;
+    }
+
+    /**
+     * 법 조항 1개의 노드 (소분류별 사건 + 스탠스별 개수/대표 의견)
+     */
+    static NetworkNodeDto buildNetworkNode(
+        LawRankDto law,
+        Map<String, Map<Sentiment, Integer>> cat3CountMap,
+        Map<String, Map<Sentiment, List<String>>> cat3OpinionMap,
+        HierarchySnapshot hierarchy
+    ) {
+        String lawArticleName = law.lawName();
+
+        // 조 내용은 집계 결과가 있는 법 조항만 표시 (기존과 동일)
+        LawArticleNode lawArticle = hierarchy.lawArticle(law.lawArticleId());
+        String description = cat3CountMap.isEmpty() || lawArticle == null ? "설명 없음" : lawArticle.content();
+        
+        List<NetworkIncidentDto> incidents = new ArrayList<>();
+
+        // 2단계 루프 (Cat3/Incident 기준)
+        for (Map.Entry<String, Map<Sentiment, Integer>> cat3Entry : cat3CountMap.entrySet()) {
+            String cat3Name = cat3Entry.getKey();
+            Map<Sentiment, Integer> stanceCounts = cat3Entry.getValue();
+
+            // (의견 가져오는 로직은 동일)
+            Map<Sentiment, List<String>> opinions = cat3OpinionMap.getOrDefault(cat3Name, Collections.emptyMap());
+            List<String> gaejeongOpinions = opinions.getOrDefault(Sentiment.PRO_STRENGTHEN, Collections.emptyList());
+            List<String> pyejiOpinions = opinions.getOrDefault(Sentiment.PRO_RELAX, Collections.emptyList());
+            List<String> hyunsangOpinions = opinions.getOrDefault(Sentiment.CON_KEEP, Collections.emptyList());
+
+            NetworkStanceDetailDto gaejeong = new NetworkStanceDetailDto(stanceCounts.getOrDefault(Sentiment.PRO_STRENGTHEN, 0), gaejeongOpinions);
+            NetworkStanceDetailDto pyeji = new NetworkStanceDetailDto(stanceCounts.getOrDefault(Sentiment.PRO_RELAX, 0), pyejiOpinions);
+            NetworkStanceDetailDto hyunsang = new NetworkStanceDetailDto(stanceCounts.getOrDefault(Sentiment.CON_KEEP, 0), hyunsangOpinions);
+            
+            incidents.add(new NetworkIncidentDto(cat3Name, gaejeong, pyeji, hyunsang));
+        }
+        
+        return new NetworkNodeDto(lawArticleName, description, incidents);
+    }
+}
@@ -0,0 +1,147 @@
+package com.aida.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import static com.aida.backend.service.Futures.join;
+
+/**
+ * 대시보드 API 결과 캐시 (endpoint + 시작일 + 종료일)
+ * - 크기 제한 + W-TinyLFU 퇴출 (Caffeine)
+ * - 같은 키를 동시에 요청하면 한 번만 조회 (먼저 온 요청의 future 를 캐시에 넣고 나머지는 그 future 를 기다림)
+ * - 오늘을 포함하지 않는 과거 기간은 길게, 오늘을 포함하는 기간은 짧게 보관
+ * - 새 News/Social 데이터가 집계에 반영되면 영향받는 기간만 무효화
+ */
+@Component
+public class DashboardCache {
+
+    private final AsyncCache<CacheKey, Object> cache;
+
+    // 무효화 세대: 조회 도중 무효화가 일어나면 그 조회의 결과는 캐시에 남기지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public DashboardCache(
+        @Value("${aida.cache.maximum-size:2000}") long maximumSize,
+        @Value("${aida.cache.live-ttl:PT5M}") Duration liveTtl,
+        @Value("${aida.cache.past-ttl:PT24H}") Duration pastTtl
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new RangeExpiry(liveTtl, pastTtl))
+            .buildAsync();
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 채움 (같은 키를 동시에 요청하면 loader 는 한 번만 실행되고 나머지는 그 결과를 기다림)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, LocalDate startDate, LocalDate endDate, Supplier<T> loader) {
+        CacheKey key = new CacheKey(endpoint, startDate, endDate);
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing != null) {
+            return (T) join(existing);
+        }
+
+        load(key, created, () -> CompletableFuture.completedFuture(loader.get()));
+        return (T) join(created);
+    }
+
+    /**
+     * 비동기 조회용: 캐시에 있거나 조회 중이면 그 future, 없으면 loader의 future 결과를 캐시에 저장
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(String endpoint, LocalDate startDate, LocalDate endDate,
+                                             Supplier<CompletableFuture<T>> loader) {
+        CacheKey key = new CacheKey(endpoint, startDate, endDate);
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = cache.asMap().putIfAbsent(key, created);
+        if (existing == null) {
+            load(key, created, loader);
+            existing = created;
+        }
+        // 호출하는 쪽이 캐시의 future 를 완료 / 취소하지 못하도록 따로 감쌈
+        return existing.thenApply(value -> (T) value);
+    }
+
+    /**
+     * from 일자 이후 데이터가 바뀌면 종료일이 from 이후인 기간을 모두 제거
+     * (SCORE의 V는 종료일 이전 전체 이력에 의존하므로 시작일과 무관하게 제거)
+     */
+    @EventListener
+    public void onDataChanged(DashboardDataChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> !key.endDate().isBefore(event.from()));
+    }
+
+    /**
+     * 캐시에 먼저 넣은 future 를 loader 결과로 완료
+     * loader 는 캐시 밖에서 실행 (loader 안에서 다른 키를 조회해도 캐시 잠금을 붙잡지 않음)
+     * 조회 도중 무효화가 일어나면 그 future 를 캐시에서 뺌 (기다리던 요청은 결과를 받지만 다음 요청은 새로 조회)
+     * null 결과나 실패는 Caffeine 이 캐시에서 뺌
+     */
+    private void load(CacheKey key, CompletableFuture<Object> future, Supplier<? extends CompletableFuture<?>> loader) {
+        long loadGeneration = generation.get();
+        future.whenComplete((value, error) -> {
+            if (generation.get() != loadGeneration) {
+                cache.asMap().remove(key, future);
+            }
+        });
+
+        try {
+            loader.get().whenComplete((value, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    record CacheKey(String endpoint, LocalDate startDate, LocalDate endDate) {}
+
+    /**
+     * 과거 기간 / 오늘 포함 기간에 따라 보관 시간을 달리함
+     */
+    private static class RangeExpiry implements Expiry<CacheKey, Object> {
+
+        private final long liveTtlNanos;
+        private final long pastTtlNanos;
+
+        RangeExpiry(Duration liveTtl, Duration pastTtl) {
+            this.liveTtlNanos = liveTtl.toNanos();
+            this.pastTtlNanos = pastTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(CacheKey key, Object value, long currentTime) {
+            return key.endDate().isBefore(LocalDate.now()) ? pastTtlNanos : liveTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(CacheKey key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(CacheKey key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
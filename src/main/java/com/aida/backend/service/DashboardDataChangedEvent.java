@@ -0,0 +1,9 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+
+/**
+ * 집계/지표 테이블이 from 일자 이후로 바뀌었음을 알리는 이벤트
+ * (V 점수는 이후 모든 날짜에 영향을 주므로 끝을 두지 않는다)
+ */
+public record DashboardDataChangedEvent(LocalDate from) {}
@@ -1,322 +1,167 @@
 package com.aida.backend.service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.springframework.stereotype.Service;
 
-import com.aida.backend.dto.CategoryArticleCountDto;
-import com.aida.backend.dto.CategoryStanceCountDto;
-import com.aida.backend.dto.DailyCountDto;
-import com.aida.backend.dto.DailyStanceCountDto;
-import com.aida.backend.dto.HeatmapLawDto;
+import com.aida.backend.config.AidaMetrics;
+import com.aida.backend.dto.DashboardBundleResponse;
 import com.aida.backend.dto.HeatmapResponse;
 import com.aida.backend.dto.KpiDailyData;
 import com.aida.backend.dto.KpiJson;
-import com.aida.backend.dto.KpiSummary;
+import com.aida.backend.dto.LawRankDto;
 import com.aida.backend.dto.LegalTop5ResponseDto; // ⭐️ 1. DTO 임포트
 import com.aida.backend.dto.NetworkGraphResponse;
-import com.aida.backend.dto.NetworkIncidentDto;
-import com.aida.backend.dto.NetworkNodeDto;
-import com.aida.backend.dto.NetworkStanceDetailDto;
+import com.aida.backend.dto.SocialBarResponse;
 import com.aida.backend.dto.SocialNetworkQueryDto;
-import com.aida.backend.dto.SocialOpinionQueryDto;
-import com.aida.backend.entity.Category1;
-import com.aida.backend.repository.Category1Repository;
-import com.aida.backend.repository.NewsRepository;
-import com.aida.backend.repository.SocialRepository;
+import com.aida.backend.dto.StanceAreaResponse;
+import com.aida.backend.entity.Sentiment;
 
 import lombok.RequiredArgsConstructor;
 
+import static com.aida.backend.service.DashboardAssembly.buildHeatmap;
+import static com.aida.backend.service.DashboardAssembly.buildKpiSummary;
+import static com.aida.backend.service.DashboardAssembly.buildNetworkNode;
+import static com.aida.backend.service.DashboardAssembly.buildSocialBar;
+import static com.aida.backend.service.DashboardAssembly.buildStanceArea;
+import static com.aida.backend.service.DashboardAssembly.groupNetworkCounts;
+import static com.aida.backend.service.DashboardAssembly.sumCategoryStances;
+import static com.aida.backend.service.DashboardAssembly.summarizeCategory;
+import static com.aida.backend.service.DashboardAssembly.toKpiDailyData;
+import static com.aida.backend.service.Futures.join;
+
 @Service
 @RequiredArgsConstructor
 public class DashboardService {
 
-    private final Category1Repository category1Repository;
-    private final NewsRepository newsRepository;
-    private final SocialRepository socialRepository;
     private final ScoreService scoreService;
+    private final DashboardCache dashboardCache;
+    private final DaySegmentCache daySegmentCache;
 
-    public Map<String, KpiJson> getKpiSummary(LocalDate startDate, LocalDate endDate) {
-
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        Map<String, KpiJson> response = new LinkedHashMap<>();
-
-        // === 1. 전체 기간 개수 (Summary용) ===
-        Map<String, Long> articleCountMap = newsRepository.countByDateBetweenGroupByCategories(startDateTime, endDateTime)
-                .stream()
-                .collect(Collectors.toMap(
-                        CategoryArticleCountDto::category,
-                        CategoryArticleCountDto::count
-                ));
-
-        Map<String, Long> commentCountMap = socialRepository.countByDateBetweenGroupByCategories(startDateTime, endDateTime)
-                .stream()
-                .collect(Collectors.toMap(
-                        CategoryArticleCountDto::category,
-                        CategoryArticleCountDto::count
-                ));
-
-        // === 2. 일별 개수 (dailyData 및 growthRate용) ===
-
-        // ⭐️ FUNCTION('DATE', s.date)의 결과 타입은 java.sql.Date이므로 LocalDate로 변환
-        Map<String, Map<LocalDate, Integer>> dailyNewsMap =
-        	    newsRepository.findDailyCountsGroupBy(startDateTime, endDateTime)
-        	        .stream()
-        	        .collect(Collectors.groupingBy(
-        	            DailyCountDto::category,
-        	            Collectors.toMap(
-        	                dto -> dto.getLocalDate(),  // ⭐️ date() → getLocalDate()로 변경
-        	                dto -> dto.count().intValue()
-        	            )
-        	        ));
-
-        	Map<String, Map<LocalDate, Integer>> dailySocialMap =
-        	    socialRepository.findDailyCountsGroupBy(startDateTime, endDateTime)
-        	        .stream()
-        	        .collect(Collectors.groupingBy(
-        	            DailyCountDto::category,
-        	            Collectors.toMap(
-        	                dto -> dto.getLocalDate(),  // ⭐️ date() → getLocalDate()로 변경
-        	                dto -> dto.count().intValue()
-        	            )
-        	        ));
-
-        // === 3. 모든 카테고리 목록 ===
-        List<Category1> allCategories = category1Repository.findAll();
-
-        // === 4. 데이터 조합 (DB 접근 X) ===
-        for (Category1 cat1 : allCategories) {
-            String categoryName = cat1.getName();
-
-            Map<LocalDate, Integer> catDailyNews = dailyNewsMap.getOrDefault(categoryName, Collections.emptyMap());
-            Map<LocalDate, Integer> catDailySocial = dailySocialMap.getOrDefault(categoryName, Collections.emptyMap());
-
-            // 날짜 순 정렬을 위한 TreeSet
-            Set<LocalDate> allDates = new TreeSet<>(catDailyNews.keySet());
-            allDates.addAll(catDailySocial.keySet());
-
-            // === 5. 일별 데이터 조립 ===
-            List<KpiDailyData> finalDailyDataList = new ArrayList<>();
-            for (LocalDate date : allDates) {
-                int newsCount = catDailyNews.getOrDefault(date, 0);
-                int socialCount = catDailySocial.getOrDefault(date, 0);
-
-                // LocalDate를 String으로 변환 (예: "2025-11-03")
-                finalDailyDataList.add(new KpiDailyData(date.toString(), newsCount, socialCount));
-            }
-
-            // === 6. 성장률 계산 ===
-            double newsGrowthRate = calculateAverageGrowthRate(finalDailyDataList, true);
-            double socialGrowthRate = calculateAverageGrowthRate(finalDailyDataList, false);
-
-            // === 7. Summary 계산 ===
-            int totalArticles = articleCountMap.getOrDefault(categoryName, 0L).intValue();
-            int totalComments = commentCountMap.getOrDefault(categoryName, 0L).intValue();
+    private final NetworkOpinionService networkOpinionService;
+    private final HierarchyIndex hierarchyIndex;
+    private final Executor dashboardExecutor;
+    private final AidaMetrics metrics;
 
-            KpiSummary summary = new KpiSummary(totalArticles, totalComments, newsGrowthRate, socialGrowthRate);
-            KpiJson kpiJson = new KpiJson(summary, finalDailyDataList);
-
-            response.put(categoryName, kpiJson);
-        }
-
-        return response;
-    }
-    
-    public Map<String, Object> getStanceArea(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        // ⭐️ Social 데이터만 조회 (News는 제외)
-        List<DailyStanceCountDto> socialCounts = socialRepository.findDailyStanceCounts(startDateTime, endDateTime);
-
-        // 2. 날짜별로 그룹화 후 스탠스별로 합산
-        Map<LocalDate, Map<String, Integer>> dateStanceMap = socialCounts.stream()
-            .collect(Collectors.groupingBy(
-                DailyStanceCountDto::getLocalDate,
-                TreeMap::new,  // 날짜 순 정렬
-                Collectors.groupingBy(
-                    dto -> mapStance(dto.stance()),  // sentiment 값을 매핑
-                    Collectors.summingInt(dto -> dto.count().intValue())
-                )
-            ));
-
-        // 3. 최종 결과 리스트 생성
-        List<Map<String, Object>> data = new ArrayList<>();
-        
-        for (Map.Entry<LocalDate, Map<String, Integer>> entry : dateStanceMap.entrySet()) {
-            Map<String, Object> dayData = new LinkedHashMap<>();
-            dayData.put("date", entry.getKey().toString());
-            
-            Map<String, Integer> stances = entry.getValue();
-            dayData.put("개정강화", stances.getOrDefault("개정강화", 0));
-            dayData.put("폐지완화", stances.getOrDefault("폐지완화", 0));
-            dayData.put("현상유지", stances.getOrDefault("현상유지", 0));
-            
-            data.add(dayData);
-        }
-
-        return Map.of("data", data);
-    }
-
-    public Map<String, Object> getSocialBar(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        // 1. 카테고리별 스탠스 개수 조회
-        List<CategoryStanceCountDto> counts = socialRepository.findCategoryStanceCounts(startDateTime, endDateTime);
-
-        // 2. 카테고리별로 그룹화 후 스탠스별 합산
-        Map<String, Map<String, Integer>> categoryStanceMap = counts.stream()
-            .collect(Collectors.groupingBy(
-                CategoryStanceCountDto::category,
-                LinkedHashMap::new,  // 순서 유지
-                Collectors.groupingBy(
-                    dto -> mapStance(dto.sentiment()),
-                    Collectors.summingInt(dto -> dto.count().intValue())
-                )
-            ));
-
-        // 3. 최종 결과 리스트 생성
-        List<Map<String, Object>> data = new ArrayList<>();
-        
-        for (Map.Entry<String, Map<String, Integer>> entry : categoryStanceMap.entrySet()) {
-            Map<String, Object> categoryData = new LinkedHashMap<>();
-            categoryData.put("category", entry.getKey());
-            
-            Map<String, Integer> stances = entry.getValue();
-            categoryData.put("개정강화", stances.getOrDefault("개정강화", 0));
-            categoryData.put("폐지완화", stances.getOrDefault("폐지완화", 0));
-            categoryData.put("현상유지", stances.getOrDefault("현상유지", 0));
-            
-            data.add(categoryData);
-        }
-
-        return Map.of("data", data);
+    /**
+     * ⭐️ [신규] 모든 패널을 한 번에 계산 (/bundle)
+     * - 일별 조각은 한 번만 가져와 KPI / 스탠스 / 소셜바 / 히트맵이 공유
+     * - TOP 5 순위는 한 번만 산정해 /legal-top5 와 네트워크 그래프(노드 순서, 대표 의견 대상)가 공유
+     * - 법안별 댓글 수 / 스탠스와 네트워크 그래프 집계는 같은 댓글 집계 한 번으로 채움
+     * - 서로 독립인 DB 조회는 dashboardExecutor 에서 동시에 실행
+     */
+    public DashboardBundleResponse getBundle(LocalDate startDate, LocalDate endDate) {
+        // === 1. 독립 조회 동시 시작 ===
+        CompletableFuture<List<DaySegment>> segmentsFuture = CompletableFuture.supplyAsync(
+            () -> daySegmentCache.getRange(startDate, endDate), dashboardExecutor);
+        CompletableFuture<LawSocialCounts> countsFuture = CompletableFuture.supplyAsync(
+            () -> scoreService.getLawSocialCounts(startDate, endDate), dashboardExecutor);
+        CompletableFuture<List<LawRankDto>> rankingFuture = rankTop5Async(startDate, endDate);
+
+        // === 2. 순위가 나오면 TOP 5 법 조항의 대표 의견만 조회 ===
+        CompletableFuture<Map<Long, Map<String, Map<Sentiment, List<String>>>>> opinionsFuture =
+            findTopOpinionsAsync(rankingFuture, startDate, endDate);
+
+        // === 3. TOP 5 응답 (캐시에 없을 때만 순위와 댓글 집계를 합침) ===
+        CompletableFuture<Map<String, LegalTop5ResponseDto>> top5Future = dashboardCache.getAsync(
+            "legal-top5", startDate, endDate, () -> rankingFuture.thenCombine(countsFuture, scoreService::toLegalTop5));
+
+        // === 4. 조립 (DB 접근 X) ===
+        List<DaySegment> segments = join(segmentsFuture);
+        Map<String, StanceCounts> categoryStanceMap = sumCategoryStances(segments);
+
+        return new DashboardBundleResponse(
+            buildKpiSummary(hierarchyIndex.current().category1Names(), segments),
+            buildStanceArea(segments),
+            buildSocialBar(categoryStanceMap),
+            join(top5Future),
+            buildHeatmap(categoryStanceMap),
+            buildNetworkGraph(join(rankingFuture), join(countsFuture).stanceRows(), join(opinionsFuture))
+        );
     }
 
-
-   
     /**
-     * DB의 sentiment 값을 화면 표시용으로 매핑
-     * "찬성_개정강화" → "개정강화"
-     * "반대_현상유지" → "현상유지"
-     * "찬성_폐지완화" → "폐지완화"
+     * TOP 5 순위 (같은 기간의 순위는 캐시에서 재사용, 없으면 dashboardExecutor 에서 산정)
      */
-    private String mapStance(String dbStance) {
-        if (dbStance == null) {
-            return "현상유지";
-        }
-        
-        switch (dbStance) {
-            case "찬성_개정강화":
-                return "개정강화";
-            case "찬성_폐지완화":
-                return "폐지완화";
-            case "반대_현상유지":
-            case "반대_폐지완화":
-            case "찬성_현상유지":
-            case "반대_개정강화": // ⭐️ 이 케이스를 추가해야 합니다.
-                return "현상유지";
-            default:
-                // "중립" 등 그 외의 모든 것은 현상유지로 처리
-                return "현상유지";
-        }
+    private CompletableFuture<List<LawRankDto>> rankTop5Async(LocalDate startDate, LocalDate endDate) {
+        return dashboardCache.getAsync("law-ranking", startDate, endDate, () -> CompletableFuture.supplyAsync(
+            () -> scoreService.rankTop5(startDate, endDate), dashboardExecutor));
     }
 
     /**
-     * 일별 성장률 평균 계산
+     * 순위가 나오면 TOP 5 법 조항의 그룹별 대표 의견 조회
      */
-    private double calculateAverageGrowthRate(List<KpiDailyData> dailyData, boolean isNews) {
-        if (dailyData.size() < 2) {
-            return 0.0; // 데이터가 2일치 미만이면 성장률 계산 불가
-        }
+    private CompletableFuture<Map<Long, Map<String, Map<Sentiment, List<String>>>>> findTopOpinionsAsync(
+        CompletableFuture<List<LawRankDto>> rankingFuture, LocalDate startDate, LocalDate endDate
+    ) {
+        return rankingFuture.thenApplyAsync(ranking -> metrics.phase("network.opinions",
+            () -> networkOpinionService.findTopOpinions(lawArticleIds(ranking), startDate, endDate)), dashboardExecutor);
+    }
 
-        List<Double> dailyRates = new ArrayList<>();
+    public Map<String, KpiJson> getKpiSummary(LocalDate startDate, LocalDate endDate) {
+        // === 1. 일별 조각 (캐시에 없는 날짜만 DB 조회) ===
+        List<DaySegment> segments = daySegmentCache.getRange(startDate, endDate);
 
-        for (int i = 1; i < dailyData.size(); i++) {
-            KpiDailyData prevDay = dailyData.get(i - 1);
-            KpiDailyData currDay = dailyData.get(i);
+        // === 2. 모든 카테고리 목록 (메모리 계층 인덱스) ===
+        List<String> allCategories = hierarchyIndex.current().category1Names();
 
-            int prevCount = isNews ? prevDay.news() : prevDay.social();
-            int currCount = isNews ? currDay.news() : currDay.social();
+        return buildKpiSummary(allCategories, segments);
+    }
 
-            if (prevCount > 0) { // 분모가 0이 아닐 때만 계산
-                double rate = (double) (currCount - prevCount) / prevCount;
-                dailyRates.add(rate);
+    /**
+     * ⭐️ [신규] KPI 요약 스트리밍 (/kpi-summary?stream=true)
+     * 일별 조각만 먼저 가져오고, 응답은 대분류마다 summary → 일별 데이터 순으로 바로 씀 (getKpiSummary와 같은 JSON)
+     * - summary 가 일별 데이터보다 앞이고 기간 전체가 필요하므로 조각은 미리 받음
+     *   (조각은 일별 조각 캐시의 항목 그대로, 요청마다 복사하지 않음 / 대분류별 dailyData 목록은 만들지 않음)
+     */
+    public JsonBodyWriter kpiSummaryWriter(LocalDate startDate, LocalDate endDate) {
+        List<DaySegment> segments = daySegmentCache.getRange(startDate, endDate);
+        List<String> allCategories = hierarchyIndex.current().category1Names();
+
+        return generator -> {
+            generator.writeStartObject();
+            for (String categoryName : allCategories) {
+                generator.writeObjectFieldStart(categoryName);
+                generator.writeObjectField("summary", summarizeCategory(categoryName, segments));
+
+                generator.writeArrayFieldStart("dailyData");
+                for (DaySegment segment : segments) {
+                    KpiDailyData dailyData = toKpiDailyData(categoryName, segment);
+                    if (dailyData != null) generator.writeObject(dailyData);
+                }
+                generator.writeEndArray();
+
+                generator.writeEndObject();
             }
-        }
+            generator.writeEndObject();
+        };
+    }
 
-        if (dailyRates.isEmpty()) {
-            return 0.0; // 유효한 성장률 기간이 없는 경우
-        }
+    
+    public StanceAreaResponse getStanceArea(LocalDate startDate, LocalDate endDate) {
+        // ⭐️ Social 데이터만 사용 (News는 제외), 일별 조각은 날짜 순
+        return buildStanceArea(daySegmentCache.getRange(startDate, endDate));
+    }
 
-        // 모든 일별 성장률의 평균 반환
-        return dailyRates.stream()
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
+    public SocialBarResponse getSocialBar(LocalDate startDate, LocalDate endDate) {
+        // 1. 카테고리별 스탠스 개수 (일별 조각 합산)
+        return buildSocialBar(sumCategoryStances(daySegmentCache.getRange(startDate, endDate)));
     }
-    
+
     /**
      * [신규] 히트맵 데이터 API
      */
     public HeatmapResponse getHeatmapData(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        // 1. DB에서 (법안명, Raw센티멘트, 개수) 리스트를 가져옴
-        List<CategoryStanceCountDto> dbData = socialRepository.findCategoryStanceCountsForHeatmap(startDateTime, endDateTime);
-
-        // 2. 피벗(Pivot)을 위한 임시 Map 생성
+        // 1~4. (대분류, 매핑된 스탠스, 개수) 피벗 (일별 조각 합산)
         // Key: 법안명, Value: [Key: 매핑된 스탠스, Value: 개수]
-        Map<String, Map<String, Integer>> pivotMap = new HashMap<>();
-
-        for (CategoryStanceCountDto row : dbData) {
-            String lawName = row.category();
-            String rawSentiment = row.sentiment();
-            int count = row.count().intValue();
-            
-            // 3. ScoreService의 로직을 재사용하여 6개를 3개로 매핑
-            String mappedStance = mapStance(rawSentiment); // (e.g., "반대_현상유지" -> "현상유지")
-
-            // 4. Map에 누적
-            // "개인정보보호법" 맵을 찾고, 그 안의 "현상유지" 카운트를 증가시킴
-            pivotMap.computeIfAbsent(lawName, k -> new HashMap<>())
-                    .merge(mappedStance, count, Integer::sum);
-        }
-
-        // 5. 임시 Map을 최종 DTO 리스트로 변환
-        List<HeatmapLawDto> dtoList = new ArrayList<>();
-        for (Map.Entry<String, Map<String, Integer>> entry : pivotMap.entrySet()) {
-            String lawName = entry.getKey();
-            Map<String, Integer> stances = entry.getValue();
-
-            dtoList.add(new HeatmapLawDto(
-                lawName,
-                stances.getOrDefault("개정강화", 0), // "개정강화" 키가 없으면 0
-                stances.getOrDefault("폐지완화", 0),
-                stances.getOrDefault("현상유지", 0)
-            ));
-        }
-
-        // 6. "laws" 키로 감싸서 반환
-        return new HeatmapResponse(dtoList);
+        return buildHeatmap(sumCategoryStances(daySegmentCache.getRange(startDate, endDate)));
     }
+
     
 
     /**
@@ -324,79 +169,67 @@ public class DashboardService {
      * (ScoreService의 Top 5 법안의 '정렬 순서'를 유지하도록 수정)
      */
     public NetworkGraphResponse getNetworkGraph(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-
-        // === 1. ScoreService를 호출해 Top 5 법안 목록을 가져옴 ===
-        // ⭐️ top5Map은 'LinkedHashMap'이므로 순서가 "1" -> "2" -> ... 로 보장됨
-        Map<String, LegalTop5ResponseDto> top5Map = scoreService.getLegalTop5(startDate, endDate);
+        // === 1. ScoreService를 호출해 Top 5 법안 순위를 가져옴 ===
+        // ⭐️ ranking은 1등 -> 5등 순서의 List
+        // (같은 기간의 순위는 캐시에서 재사용)
+        CompletableFuture<List<LawRankDto>> rankingFuture = rankTop5Async(startDate, endDate);
         
-        // ⭐️ [수정] .toSet()을 호출하지 않고, 순서가 보장된 'values()' 컬렉션을 그대로 사용
-        Collection<LegalTop5ResponseDto> top5DtosInOrder = top5Map.values();
-
         // === 2. '집계(Count)' 및 '의견(Content)' 데이터 가져오기 (DB 접근) ===
-        // (이 부분은 모든 법안 데이터를 가져오는 것이 효율적이므로 그대로 둡니다)
-        List<SocialNetworkQueryDto> dbCounts = socialRepository.findNetworkGraphDataByLawArticle(startDateTime, endDateTime);
-        List<SocialOpinionQueryDto> dbOpinions = socialRepository.findNetworkGraphOpinions(startDateTime, endDateTime);
-
-        // === 3. 데이터 맵으로 변환 (전체 데이터) ===
-        // (이 부분도 그대로 둡니다)
-        Map<String, Map<String, Map<String, Integer>>> countMap = new HashMap<>();
-        Map<String, String> descriptionMap = new HashMap<>();
-        for (SocialNetworkQueryDto countResult : dbCounts) {
-            countMap
-                .computeIfAbsent(countResult.lawArticleName(), k -> new HashMap<>())
-                .computeIfAbsent(countResult.cat3Name(), k -> new HashMap<>())
-                .put(countResult.sentiment(), countResult.count().intValue());
-            descriptionMap.putIfAbsent(countResult.lawArticleName(), countResult.articleContent());
-        }
-        Map<String, Map<String, Map<String, List<String>>>> opinionMap = new HashMap<>();
-        for (SocialOpinionQueryDto opinion : dbOpinions) {
-             List<String> opinions = opinionMap
-                .computeIfAbsent(opinion.lawArticleName(), k -> new HashMap<>())
-                .computeIfAbsent(opinion.cat3Name(), k -> new HashMap<>())
-                .computeIfAbsent(opinion.sentiment(), k -> new ArrayList<>());
-            if (opinions.size() < 5) {
-                opinions.add(opinion.content());
-            }
-        }
-        
-        // === 4. [수정] '순서가 보장된' Top 5 목록을 기준으로 최종 DTO 조립 ===
-        List<NetworkNodeDto> nodes = new ArrayList<>();
-
-        // ⭐️ [수정] Set(top5LawNames)이 아닌, 순서가 있는 Collection(top5DtosInOrder)으로 루프
-        for (LegalTop5ResponseDto top5Dto : top5DtosInOrder) {
-            
-            String lawArticleName = top5Dto.law(); // ⭐️ 루프 안에서 법안 이름을 순서대로 가져옴
-
-            String description = descriptionMap.getOrDefault(lawArticleName, "설명 없음");
-            Map<String, Map<String, Integer>> cat3CountMap = countMap.getOrDefault(lawArticleName, Collections.emptyMap());
-            
-            List<NetworkIncidentDto> incidents = new ArrayList<>();
-
-            // 2단계 루프 (Cat3/Incident 기준)
-            for (Map.Entry<String, Map<String, Integer>> cat3Entry : cat3CountMap.entrySet()) {
-                String cat3Name = cat3Entry.getKey();
-                Map<String, Integer> stanceCounts = cat3Entry.getValue();
-
-                // (의견 가져오는 로직은 동일)
-                List<String> gaejeongOpinions = opinionMap.getOrDefault(lawArticleName, Collections.emptyMap()).getOrDefault(cat3Name, Collections.emptyMap()).getOrDefault("찬성_개정강화", Collections.emptyList());
-                List<String> pyejiOpinions = opinionMap.getOrDefault(lawArticleName, Collections.emptyMap()).getOrDefault(cat3Name, Collections.emptyMap()).getOrDefault("찬성_폐지완화", Collections.emptyList());
-                List<String> hyunsangOpinions = opinionMap.getOrDefault(lawArticleName, Collections.emptyMap()).getOrDefault(cat3Name, Collections.emptyMap()).getOrDefault("반대_현상유지", Collections.emptyList());
-
-                NetworkStanceDetailDto gaejeong = new NetworkStanceDetailDto(stanceCounts.getOrDefault("찬성_개정강화", 0), gaejeongOpinions);
-                NetworkStanceDetailDto pyeji = new NetworkStanceDetailDto(stanceCounts.getOrDefault("찬성_폐지완화", 0), pyejiOpinions);
-                NetworkStanceDetailDto hyunsang = new NetworkStanceDetailDto(stanceCounts.getOrDefault("반대_현상유지", 0), hyunsangOpinions);
-                
-                incidents.add(new NetworkIncidentDto(cat3Name, gaejeong, pyeji, hyunsang));
+        // 집계는 가벼우므로 전체, 의견은 Top 5 법 조항의 그룹별 상위 5건만 DB에서 골라 받음
+        // (집계는 순위 산정과 동시에, 의견은 순위가 나오는 즉시 조회)
+        CompletableFuture<Map<Long, Map<String, Map<Sentiment, List<String>>>>> opinionsFuture =
+            findTopOpinionsAsync(rankingFuture, startDate, endDate);
+        List<SocialNetworkQueryDto> dbCounts = scoreService.getLawSocialCounts(startDate, endDate).stanceRows();
+
+        List<LawRankDto> ranking = join(rankingFuture);
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap = join(opinionsFuture);
+
+        return buildNetworkGraph(ranking, dbCounts, opinionMap);
+    }
+
+    /**
+     * ⭐️ [신규] 네트워크 그래프 스트리밍 (/network-graph?stream=true)
+     * 조회는 먼저 끝내고, 응답은 법 조항(노드)을 하나씩 만들어 바로 씀 (getNetworkGraph와 같은 JSON)
+     * - 개수는 노드를 쓸 때 그 법 조항 행만 모음 (전체 법 조항의 개수 맵을 만들지 않음)
+     * - 대표 의견은 TOP 5 × 소분류 × 스탠스별 최대 5건이라 미리 받아 둠
+     */
+    public JsonBodyWriter networkGraphWriter(LocalDate startDate, LocalDate endDate) {
+        CompletableFuture<List<LawRankDto>> rankingFuture = rankTop5Async(startDate, endDate);
+        CompletableFuture<Map<Long, Map<String, Map<Sentiment, List<String>>>>> opinionsFuture =
+            findTopOpinionsAsync(rankingFuture, startDate, endDate);
+        List<SocialNetworkQueryDto> stanceRows = scoreService.getLawSocialCounts(startDate, endDate).stanceRows();
+
+        List<LawRankDto> ranking = join(rankingFuture);
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap = join(opinionsFuture);
+        HierarchySnapshot hierarchy = hierarchyIndex.current();
+
+        return generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("nodes");
+            for (LawRankDto law : ranking) {
+                generator.writeObject(buildNetworkNode(law,
+                    groupNetworkCounts(stanceRows, law.lawArticleId()),
+                    opinionMap.getOrDefault(law.lawArticleId(), Collections.emptyMap()), hierarchy));
             }
-            
-            // ⭐️ nodes 리스트에 1등, 2등, 3등... 순서대로 추가됨
-            nodes.add(new NetworkNodeDto(lawArticleName, description, incidents));
-        }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        };
+    }
 
-        return new NetworkGraphResponse(nodes);
+    private List<Long> lawArticleIds(List<LawRankDto> ranking) {
+        return ranking.stream().map(LawRankDto::lawArticleId).toList();
     }
+
+    private NetworkGraphResponse buildNetworkGraph(
+        List<LawRankDto> ranking,
+        List<SocialNetworkQueryDto> dbCounts,
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap
+    ) {
+        HierarchySnapshot hierarchy = hierarchyIndex.current();
+        return metrics.phase("network.assemble",
+            () -> DashboardAssembly.buildNetworkGraph(ranking, dbCounts, opinionMap, hierarchy));
+    }
+
     
     
 }
@@ -0,0 +1,51 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간별 마지막 데이터 변경 시각 (조건부 GET의 ETag / Last-Modified)
+ * - from 일자부터 바뀌었다는 이벤트는 종료일이 from 이후인 모든 기간에 영향 (DashboardCache 무효화와 같은 기준)
+ * - 변경 시작일 → 변경 시각을 보관하고, 기간의 변경 시각은 종료일 이하 변경 시작일 중 가장 최근 값
+ * - 재시작하면 이전 변경 이력을 모르므로 기동 시각부터 다시 시작 (모든 ETag가 한 번 바뀜)
+ */
+@Component
+public class DataChangeStamps {
+
+    private final long startedAt = System.currentTimeMillis();
+
+    // 변경 시작일 → 변경 시각 (키가 클수록 값도 큼: 새 이벤트가 자기 이후 키를 모두 덮으므로)
+    private final ConcurrentSkipListMap<LocalDate, Long> changedAt = new ConcurrentSkipListMap<>();
+
+    private long lastStamp = startedAt;
+
+    @EventListener
+    public synchronized void onDataChanged(DashboardDataChangedEvent event) {
+        // 같은 밀리초에 두 번 바뀌어도 값이 달라지도록 단조 증가
+        lastStamp = Math.max(System.currentTimeMillis(), lastStamp + 1);
+
+        // from 이후 키는 이번 변경이 영향을 주는 기간과 겹치므로 더 볼 필요 없음
+        changedAt.tailMap(event.from(), false).clear();
+        changedAt.put(event.from(), lastStamp);
+    }
+
+    /**
+     * 종료일이 endDate인 기간의 마지막 변경 시각 (epoch ms)
+     */
+    public long lastModified(LocalDate endDate) {
+        Map.Entry<LocalDate, Long> entry = changedAt.floorEntry(endDate);
+        return entry != null ? entry.getValue() : startedAt;
+    }
+
+    /**
+     * 기간 응답의 ETag (같은 URL에 대해 데이터가 바뀌었을 때만 달라짐)
+     * representation: 형식 / 압축이 다른 본문은 ETag도 달라야 하므로 구분자를 붙임 (예: "json", "cbor-gzip")
+     */
+    public String etag(LocalDate endDate, String representation) {
+        return "\"" + Long.toHexString(lastModified(endDate)) + "-" + representation + "\"";
+    }
+}
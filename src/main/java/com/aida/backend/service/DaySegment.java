@@ -0,0 +1,60 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.aida.backend.domain.Stance;
+import com.aida.backend.entity.Sentiment;
+
+/**
+ * 하루치 대시보드 집계 조각 (모두 건수이므로 기간 결과는 일별 조각의 합)
+ *
+ * @param newsByCategory   대분류 → 뉴스 수 (KPI)
+ * @param socialByCategory 대분류 → 댓글 수 (KPI)
+ * @param stances          스탠스 → 댓글 수 (stance-area, 소분류 없는 댓글 포함)
+ * @param categoryStances  대분류 → 스탠스 → 댓글 수 (social-bar, 히트맵)
+ */
+public record DaySegment(
+    LocalDate date,
+    Map<String, Integer> newsByCategory,
+    Map<String, Integer> socialByCategory,
+    StanceCounts stances,
+    Map<String, StanceCounts> categoryStances
+) {
+
+    /**
+     * 건수가 없는 하루치 조각 (add* 로 채움)
+     */
+    public static DaySegment empty(LocalDate date) {
+        return new DaySegment(date, new HashMap<>(), new HashMap<>(), new StanceCounts(), new HashMap<>());
+    }
+
+    /**
+     * KPI: 대분류별 뉴스 수
+     */
+    public void addNews(String category, int count) {
+        newsByCategory.merge(category, count, Integer::sum);
+    }
+
+    /**
+     * 소분류 × sentiment 댓글 수 한 행 반영 (category: 소분류의 대분류, 없으면 null → 대분류 집계에서 제외)
+     */
+    public void addSocial(String category, Sentiment sentiment, int count) {
+        // KPI: 대분류별 일별 댓글 수
+        if (category != null) {
+            socialByCategory.merge(category, count, Integer::sum);
+        }
+
+        if (!sentiment.isStanceTarget()) return;
+        Stance stance = sentiment.getStance();
+
+        // stance-area: 일별 스탠스
+        stances.add(stance, count);
+
+        // social-bar, 히트맵: 대분류별 일별 스탠스
+        if (category != null) {
+            categoryStances.computeIfAbsent(category, k -> new StanceCounts()).add(stance, count);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.aida.backend.dto.DailyCategoryCountDto;
+import com.aida.backend.repository.DashboardReadRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import static com.aida.backend.service.Futures.join;
+
+/**
+ * 일별 집계 조각 캐시
+ * 임의의 [start, end] 요청을 일별 조각으로 나눠, 캐시에 없는 날짜만 DB에서 조회한다.
+ * (슬라이딩하는 기간 선택에서도 새로 추가된 날짜만 조회)
+ */
+@Component
+public class DaySegmentCache {
+
+    private final DashboardReadRepository dashboardReadRepository;
+    private final HierarchyIndex hierarchyIndex;
+    private final Executor dashboardExecutor;
+
+    private final Cache<LocalDate, DaySegment> cache;
+
+    // 무효화 세대: 조회 도중 무효화가 일어나면 그 결과는 캐시에 넣지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    public DaySegmentCache(
+        DashboardReadRepository dashboardReadRepository,
+        HierarchyIndex hierarchyIndex,
+        Executor dashboardExecutor,
+        @Value("${aida.cache.day-segment-maximum-size:3700}") long maximumSize
+    ) {
+        this.dashboardReadRepository = dashboardReadRepository;
+        this.hierarchyIndex = hierarchyIndex;
+        this.dashboardExecutor = dashboardExecutor;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .build();
+    }
+
+    /**
+     * [startDate, endDate]의 일별 조각 (날짜 순, 시작일이 종료일보다 뒤면 빈 목록: BETWEEN 과 같음)
+     */
+    public List<DaySegment> getRange(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) return List.of();
+
+        Map<LocalDate, DaySegment> cached = cache.getAllPresent(startDate.datesUntil(endDate.plusDays(1)).toList());
+
+        List<DaySegment> result = new ArrayList<>();
+        LocalDate missingStart = null;
+
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            DaySegment segment = cached.get(date);
+
+            if (segment == null) {
+                if (missingStart == null) missingStart = date;
+                continue;
+            }
+
+            // 연속으로 비어 있던 구간은 쿼리 한 번(뉴스/댓글 각 1회)으로 채움
+            if (missingStart != null) {
+                result.addAll(load(missingStart, date.minusDays(1)));
+                missingStart = null;
+            }
+            result.add(segment);
+        }
+
+        if (missingStart != null) {
+            result.addAll(load(missingStart, endDate));
+        }
+
+        return result;
+    }
+
+    /**
+     * from 일자 이후 조각 제거
+     */
+    @EventListener
+    public void onDataChanged(DashboardDataChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(date -> !date.isBefore(event.from()));
+    }
+
+    /**
+     * 연속된 날짜 구간을 DB에서 읽어 일별 조각으로 분해
+     */
+    private List<DaySegment> load(LocalDate startDate, LocalDate endDate) {
+        long loadGeneration = generation.get();
+
+        Map<LocalDate, DaySegment> segments = new HashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            segments.put(date, DaySegment.empty(date));
+        }
+
+        // 뉴스 / 댓글 집계는 서로 독립이므로 동시에 조회 (뉴스는 대분류 × 일자로 작아서 목록으로 받음)
+        CompletableFuture<List<DailyCategoryCountDto>> newsFuture = CompletableFuture.supplyAsync(
+            () -> dashboardReadRepository.findDailyNewsCounts(startDate, endDate), dashboardExecutor);
+
+        // === 댓글: (일자, 소분류, sentiment) 한 번 조회로 세 가지 조각을 채움 ===
+        // (소분류 → 대분류는 메모리 계층 인덱스에서 찾음, 대분류가 없는 소분류는 대분류 집계에서 제외)
+        // (기간에 비례해 커지므로 목록으로 모으지 않고 한 행씩 반영)
+        HierarchySnapshot hierarchy = hierarchyIndex.current();
+
+        dashboardReadRepository.forEachDailyCategory3SentimentCount(startDate, endDate, row ->
+            segments.get(row.day()).addSocial(hierarchy.category1Name(row.category3Id()), row.sentiment(), (int) row.count()));
+
+        // === KPI: 대분류별 일별 뉴스 수 ===
+        for (DailyCategoryCountDto dto : join(newsFuture)) {
+            segments.get(dto.day()).addNews(dto.category(), (int) dto.count());
+        }
+
+        List<DaySegment> result = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            result.add(segments.get(date));
+        }
+
+        if (generation.get() == loadGeneration) {
+            cache.putAll(segments);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,8 @@
+package com.aida.backend.service;
+
+/**
+ * 직렬화가 끝난 응답 본문 (캐시에 그대로 보관하고 그대로 응답)
+ * gzip은 압축 효과가 있는 크기일 때만 만들어 둠 (없으면 null)
+ */
+public record EncodedBody(byte[] identity, byte[] gzip) {
+}
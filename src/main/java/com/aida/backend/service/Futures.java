@@ -0,0 +1,26 @@
+package com.aida.backend.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * fan-out 조회 결과 대기
+ */
+final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 비동기 작업의 예외를 원래 예외로 풀어서 던짐 (다른 요청의 조회가 실패했으면 그 예외 그대로)
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw e;
+        }
+    }
+}
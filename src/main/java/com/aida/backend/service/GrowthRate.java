@@ -0,0 +1,29 @@
+package com.aida.backend.service;
+
+import java.util.DoubleSummaryStatistics;
+
+/**
+ * 일별 성장률 평균 (값이 있는 날을 순서대로 넣음)
+ * 연속된 두 날의 (오늘 - 전날) / 전날 평균, 전날 값이 0이면 건너뜀
+ */
+final class GrowthRate {
+
+    private final DoubleSummaryStatistics rates = new DoubleSummaryStatistics();
+    private int previous;
+    private boolean hasPrevious;
+
+    void add(int count) {
+        if (hasPrevious && previous > 0) { // 분모가 0이 아닐 때만 계산
+            rates.accept((double) (count - previous) / previous);
+        }
+        previous = count;
+        hasPrevious = true;
+    }
+
+    /**
+     * 유효한 성장률 기간이 없으면 (2일치 미만 포함) 0
+     */
+    double average() {
+        return rates.getCount() > 0 ? rates.getAverage() : 0.0;
+    }
+}
@@ -0,0 +1,152 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.aida.backend.entity.Category1;
+import com.aida.backend.repository.Category1Repository;
+import com.aida.backend.repository.Category3Repository;
+import com.aida.backend.repository.LawArticleRepository;
+import com.aida.backend.service.HierarchySnapshot.Category3Node;
+import com.aida.backend.service.HierarchySnapshot.LawArticleNode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분류(Category1/2/3) · 법령(Law/LawPart/LawSection/LawArticle) 계층 인메모리 인덱스
+ * - 처음 사용할 때 적재하고, 주기적으로 다시 읽어 바뀌었으면 스냅샷을 통째로 교체
+ * - 읽는 쪽은 current() 한 번으로 일관된 스냅샷을 얻고 잠금 없이 조회
+ * - 계층이 바뀌면 이름/소속이 달라질 수 있으므로 대시보드 캐시 전체를 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class HierarchyIndex {
+
+    private final Category1Repository category1Repository;
+    private final Category3Repository category3Repository;
+    private final LawArticleRepository lawArticleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<HierarchySnapshot> snapshot = new AtomicReference<>();
+
+    // 동시에 한 번만 다시 읽음
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // 다시 읽은 횟수: 잠금을 기다리는 동안 다른 호출이 다시 읽었으면 그 스냅샷을 그대로 씀
+    private final AtomicLong generation = new AtomicLong();
+
+    public HierarchySnapshot current() {
+        HierarchySnapshot current = snapshot.get();
+        return current != null ? current : refresh();
+    }
+
+    @Scheduled(
+        initialDelayString = "${aida.hierarchy.refresh-interval-ms:300000}",
+        fixedDelayString = "${aida.hierarchy.refresh-interval-ms:300000}"
+    )
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * 계층 테이블을 다시 읽어 스냅샷 교체 (바뀐 경우에만 캐시 무효화 이벤트 발행)
+     * 잠금을 기다리는 동안 다른 호출이 이미 다시 읽었으면 읽지 않고 그 스냅샷을 돌려줌 (첫 사용 시 동시 호출도 한 번만 적재)
+     */
+    public HierarchySnapshot refresh() {
+        long seen = generation.get();
+        refreshLock.lock();
+        try {
+            if (generation.get() != seen) return snapshot.get();
+
+            HierarchySnapshot loaded = load();
+            HierarchySnapshot previous = snapshot.getAndSet(loaded);
+            generation.incrementAndGet();
+
+            // 계층이 바뀌면 대시보드 캐시 전체 무효화
+            if (previous != null && !previous.equals(loaded)) {
+                eventPublisher.publishEvent(new DashboardDataChangedEvent(LocalDate.MIN));
+            }
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private HierarchySnapshot load() {
+        // === 대분류 (KPI 카테고리 목록) ===
+        List<String> category1Names = new ArrayList<>();
+        for (Category1 cat1 : category1Repository.findAll()) {
+            category1Names.add(cat1.getName());
+        }
+
+        // === 소분류 → 중분류 → 대분류, 소분류 → 법 조항 ===
+        Map<Long, Category3Node> category3ById = new HashMap<>();
+        Map<Long, Long> category3IdBySubid = new HashMap<>();
+        Map<String, Long> category3IdByCode = new HashMap<>();
+        Map<String, String> category1NameByCode = new HashMap<>();
+        Map<Long, List<Long>> category3IdsByLawArticleId = new HashMap<>();
+
+        for (Object[] row : category3Repository.findHierarchyRows()) {
+            Long id = toLong(row[0]);
+            String code = (String) row[1];
+            Category3Node node = new Category3Node(
+                id, (String) row[2], toLong(row[3]), toLong(row[4]), (String) row[5], toLong(row[6]));
+
+            category3ById.put(id, node);
+            category1NameByCode.put(code, node.category1Name());
+            category3IdByCode.put(code, id);
+            Long subid = parseSubid(code);
+            if (subid != null) category3IdBySubid.put(subid, id);
+            if (node.lawArticleId() != null) {
+                category3IdsByLawArticleId.computeIfAbsent(node.lawArticleId(), k -> new ArrayList<>()).add(id);
+            }
+        }
+
+        // === 법 조항 → 장/절 → 법률 ===
+        Map<Long, LawArticleNode> lawArticleById = new HashMap<>();
+        for (Object[] row : lawArticleRepository.findHierarchyRows()) {
+            Long id = toLong(row[0]);
+            String subid = (String) row[6];
+            lawArticleById.put(id, new LawArticleNode(
+                id, (String) row[1], (String) row[2], toLong(row[3]), toLong(row[4]), toLong(row[5]),
+                subid != null ? category1NameByCode.get(subid) : null));
+        }
+
+        Map<Long, List<Long>> frozenCategory3Ids = new HashMap<>();
+        category3IdsByLawArticleId.forEach((lawArticleId, ids) -> frozenCategory3Ids.put(lawArticleId, List.copyOf(ids)));
+
+        return new HierarchySnapshot(
+            List.copyOf(category1Names),
+            Map.copyOf(category3ById),
+            Map.copyOf(category3IdBySubid),
+            Map.copyOf(category3IdByCode),
+            Map.copyOf(lawArticleById),
+            Map.copyOf(frozenCategory3Ids));
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * news.subid 는 숫자, category3.code 는 문자열 → 숫자 코드만 매핑
+     */
+    private static Long parseSubid(String code) {
+        if (code == null) return null;
+        try {
+            return Long.parseLong(code.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
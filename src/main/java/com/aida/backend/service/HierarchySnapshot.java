@@ -0,0 +1,76 @@
+package com.aida.backend.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 분류/법령 계층의 불변 스냅샷 (HierarchyIndex 가 통째로 교체)
+ * - 소분류 → 중분류 → 대분류
+ * - 소분류 → 법 조항 → 장/절 → 법률
+ *
+ * 집계 쿼리는 category3_id 등 id로만 묶고, 이름/상위 계층은 여기서 찾는다.
+ */
+public record HierarchySnapshot(
+    List<String> category1Names,                      // 대분류 이름 (KPI 카테고리 목록, id 순)
+    Map<Long, Category3Node> category3ById,
+    Map<Long, Long> category3IdBySubid,               // news.subid(= 소분류 code) → 소분류 id
+    Map<String, Long> category3IdByCode,              // 소분류 code → 소분류 id (수집 시 코드 변환)
+    Map<Long, LawArticleNode> lawArticleById,
+    Map<Long, List<Long>> category3IdsByLawArticleId  // 법 조항 → 연결된 소분류 id 목록
+) {
+
+    public static final HierarchySnapshot EMPTY =
+        new HierarchySnapshot(List.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    public record Category3Node(
+        Long id,
+        String name,
+        Long category2Id,
+        Long category1Id,
+        String category1Name,   // 대분류가 없으면 null
+        Long lawArticleId       // 연결된 법 조항이 없으면 null
+    ) {}
+
+    public record LawArticleNode(
+        Long id,
+        String label,           // 법률명 + 조 번호 + 조 제목
+        String content,         // 조 내용
+        Long partId,
+        Long sectionId,         // 절이 없으면 null
+        Long lawId,
+        String category1Name    // la.subid 소분류의 대분류 (없으면 null)
+    ) {}
+
+    public Category3Node category3(Long category3Id) {
+        return category3ById.get(category3Id);
+    }
+
+    /**
+     * 소분류 id → 대분류 이름 (연결이 없으면 null)
+     */
+    public String category1Name(Long category3Id) {
+        Category3Node node = category3ById.get(category3Id);
+        return node != null ? node.category1Name() : null;
+    }
+
+    /**
+     * 소분류 id → 법 조항 id (연결이 없으면 null)
+     */
+    public Long lawArticleId(Long category3Id) {
+        Category3Node node = category3ById.get(category3Id);
+        return node != null ? node.lawArticleId() : null;
+    }
+
+    public LawArticleNode lawArticle(Long lawArticleId) {
+        return lawArticleById.get(lawArticleId);
+    }
+
+    public String lawArticleLabel(Long lawArticleId) {
+        LawArticleNode node = lawArticleById.get(lawArticleId);
+        return node != null ? node.label() : null;
+    }
+
+    public List<Long> category3Ids(Long lawArticleId) {
+        return category3IdsByLawArticleId.getOrDefault(lawArticleId, List.of());
+    }
+}
@@ -0,0 +1,142 @@
+package com.aida.backend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 수집 파이프라인 한 갈래 (레코드 종류별 하나)
+ * 요청 스레드(파싱 / 검증) → 제한 큐 → 쓰기 스레드(묶기 + INSERT, 한 묶음 한 트랜잭션) → 커밋한 최대 id 로 집계 갱신 요청
+ * - 큐가 가득 차면 요청 스레드가 기다림 (DB가 밀리면 수집 속도가 DB 속도로 줄고 메모리는 큐 크기로 제한)
+ * - 여러 요청의 레코드를 한 묶음으로 모아 씀 (작은 요청이 많아도 batch 크기 유지)
+ * - 테이블마다 쓰기 스레드가 하나라 id 순서대로 커밋됨 (커밋한 최대 id 이하는 모두 끝났으므로 집계가 바로 접을 수 있음)
+ * - 묶음이 데이터 오류(길이 초과, 잘못된 값 등)로 실패하면 반으로 나눠 다시 써서 문제 줄만 거절
+ *   (연결 끊김 같은 다른 오류는 나눠도 같으므로 묶음 전체를 거절)
+ */
+final class IngestPipeline<T> {
+
+    private record Entry<T>(T record, long lineNumber, IngestTicket ticket) {}
+
+    private final BlockingQueue<Entry<T>> queue;
+    private final int batchSize;
+    private final TransactionTemplate transactionTemplate;
+    private final ToLongFunction<List<T>> writer;
+    private final LongConsumer afterCommit;
+    private final Thread writerThread;
+
+    private volatile boolean closed;
+
+    /**
+     * writer: 묶음을 INSERT 하고 만든 행의 최대 id 를 돌려줌
+     * afterCommit: 커밋이 끝난 최대 id 를 받음 (묶음을 나눠 썼으면 커밋된 조각들 중 최대)
+     */
+    IngestPipeline(
+        String name, int capacity, int batchSize, TransactionTemplate transactionTemplate,
+        ToLongFunction<List<T>> writer, LongConsumer afterCommit
+    ) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.transactionTemplate = transactionTemplate;
+        this.writer = writer;
+        this.afterCommit = afterCommit;
+        this.writerThread = Thread.ofVirtual().name("ingest-" + name).start(this::writeLoop);
+    }
+
+    /**
+     * 큐에 넣음 (가득 차 있으면 timeout 까지 기다리고, 그래도 자리가 없거나 닫혔으면 false)
+     */
+    boolean offer(T record, long lineNumber, IngestTicket ticket, Duration timeout) throws InterruptedException {
+        if (closed) return false;
+
+        Entry<T> entry = new Entry<>(record, lineNumber, ticket);
+        ticket.enqueued();
+        if (queue.offer(entry, timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+            // 넣는 사이에 닫혔으면 쓰기 스레드가 이미 끝났을 수 있으므로 직접 꺼냄
+            // (꺼내지 못했으면 쓰기 스레드나 close 가 가져가 처리함)
+            if (!closed || !queue.remove(entry)) return true;
+        }
+        // 넣지 못한 레코드는 요청 쪽에서 다시 보냄
+        ticket.withdrawn();
+        return false;
+    }
+
+    /**
+     * 새 레코드를 받지 않고, 남은 레코드를 쓴 뒤 쓰기 스레드 종료
+     * timeout 까지 끝나지 않으면 쓰기 스레드를 중단하고, 쓰지 못한 레코드는 거절로 처리 (요청이 응답을 받도록)
+     */
+    void close(Duration timeout) throws InterruptedException {
+        closed = true;
+        writerThread.join(timeout);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            writerThread.join(timeout);
+        }
+        rejectQueued();
+    }
+
+    private void writeLoop() {
+        List<Entry<T>> batch = new ArrayList<>(batchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Entry<T> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejectQueued();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void rejectQueued() {
+        List<Entry<T>> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (Entry<T> entry : rest) entry.ticket().rejectQueued(entry.lineNumber(), "종료 중이라 저장하지 못함");
+    }
+
+    private void write(List<Entry<T>> batch) {
+        long committedId = writeOrSplit(batch);
+        if (committedId > 0) afterCommit.accept(committedId);
+    }
+
+    /**
+     * 묶음을 한 트랜잭션으로 쓰고 커밋한 최대 id 를 돌려줌 (저장한 행이 없으면 0)
+     * 데이터 오류면 앞 절반, 뒤 절반 순서로 나눠 다시 씀 (id 순서 유지, 한 건까지 줄면 그 줄만 거절)
+     */
+    private long writeOrSplit(List<Entry<T>> batch) {
+        List<T> records = new ArrayList<>(batch.size());
+        for (Entry<T> entry : batch) records.add(entry.record());
+
+        long maxId;
+        try {
+            maxId = transactionTemplate.execute(status -> writer.applyAsLong(records));
+        } catch (RuntimeException e) {
+            if (e instanceof DataIntegrityViolationException && batch.size() > 1) {
+                int half = batch.size() / 2;
+                return Math.max(writeOrSplit(batch.subList(0, half)), writeOrSplit(batch.subList(half, batch.size())));
+            }
+            // 쓰기 스레드는 계속 돌아야 하므로 DB 오류 외의 예외도 그 묶음의 거절로 처리
+            String reason = "저장 실패 " + (e instanceof DataAccessException dae ? dae.getMostSpecificCause() : e).getMessage();
+            for (Entry<T> entry : batch) entry.ticket().rejectQueued(entry.lineNumber(), reason);
+            return 0;
+        }
+
+        for (Entry<T> entry : batch) entry.ticket().accepted(1);
+        return maxId;
+    }
+}
@@ -0,0 +1,208 @@
+package com.aida.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.dto.IngestResult;
+import com.aida.backend.dto.NewsIngestRecord;
+import com.aida.backend.dto.SocialIngestRecord;
+import com.aida.backend.repository.RawDataWriteRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * ⭐️ 원본(news, social) 대량 수집
+ * - NDJSON 본문을 한 줄씩 읽고 검증해 수집 파이프라인(IngestPipeline) 큐에 넣음 (본문 전체를 메모리에 올리지 않음)
+ * - 쓰기 스레드가 여러 요청의 레코드를 batch-size 건씩 한 트랜잭션으로 INSERT, 커밋마다 커밋한 최대 id 까지 집계 갱신 요청
+ * - 응답은 이 요청의 레코드가 모두 저장(또는 거절)된 뒤에 보냄
+ * - 소분류 code 는 계층 인덱스(메모리)에서 확인, 처음 보는 code 가 있으면 요청당 한 번만 다시 읽음
+ * - 형식이 틀리거나 code 를 모르거나 컬럼 길이를 넘는 줄은 건너뛰고 결과에 줄 번호로 알림 (나머지 줄은 반영)
+ * - 큐가 enqueue-timeout 동안 계속 가득 차 있으면 읽기를 멈추고 다시 보낼 줄 번호를 돌려줌 (컨트롤러가 503)
+ */
+@Service
+public class IngestService implements DisposableBean {
+
+    // TEXT 컬럼 최대 크기 (바이트, VARCHAR 는 글자 수라 컬럼마다 따로 확인)
+    private static final int TEXT_MAX_BYTES = 65_535;
+
+    private final HierarchyIndex hierarchyIndex;
+    private final ObjectMapper objectMapper;
+    private final Duration enqueueTimeout;
+
+    private final IngestPipeline<NewsIngestRecord> newsPipeline;
+    private final IngestPipeline<SocialIngestRecord> socialPipeline;
+
+    // 검증에서 확인한 소분류 code → id (쓰기 스레드가 INSERT 할 때 씀, 소분류 수만큼만 커짐)
+    private final Map<String, Long> category3IdByCode = new ConcurrentHashMap<>();
+
+    public IngestService(
+        RawDataWriteRepository rawDataWriteRepository,
+        HierarchyIndex hierarchyIndex,
+        AggregationTrigger aggregationTrigger,
+        TransactionTemplate transactionTemplate,
+        ObjectMapper objectMapper,
+        @Value("${aida.ingest.batch-size:1000}") int batchSize,
+        @Value("${aida.ingest.queue-capacity:20000}") int queueCapacity,
+        @Value("${aida.ingest.enqueue-timeout:PT30S}") Duration enqueueTimeout
+    ) {
+        this.hierarchyIndex = hierarchyIndex;
+        this.objectMapper = objectMapper;
+        this.enqueueTimeout = enqueueTimeout;
+
+        this.newsPipeline = new IngestPipeline<>("news", queueCapacity, batchSize, transactionTemplate,
+            rawDataWriteRepository::insertNews,
+            maxId -> aggregationTrigger.committed(DailyAggregationService.NEWS_DAILY_AGG, maxId));
+        this.socialPipeline = new IngestPipeline<>("social", queueCapacity, batchSize, transactionTemplate,
+            records -> rawDataWriteRepository.insertSocial(records, category3IdByCode),
+            maxId -> aggregationTrigger.committed(DailyAggregationService.SOCIAL_DAILY_AGG, maxId));
+    }
+
+    public IngestResult ingestNews(InputStream body) throws IOException {
+        CodeLookup lookup = new CodeLookup();
+
+        return ingest(body, NewsIngestRecord.class, newsPipeline, news -> {
+            if (news.date() == null) return "date 가 없습니다";
+
+            String lengthError = firstError(
+                tooLong("category", news.category(), 255),
+                tooLong("title", news.title(), 500),
+                tooLongText("content", news.content()),
+                tooLong("url", news.url(), 1000)
+            );
+            if (lengthError != null) return lengthError;
+
+            if (news.subid() != null && lookup.find(snapshot -> snapshot.category3IdBySubid().get(news.subid())) == null) {
+                return "알 수 없는 subid " + news.subid();
+            }
+            return null;
+        });
+    }
+
+    public IngestResult ingestSocial(InputStream body) throws IOException {
+        CodeLookup lookup = new CodeLookup();
+
+        return ingest(body, SocialIngestRecord.class, socialPipeline, social -> {
+            if (social.date() == null) return "date 가 없습니다";
+            if (social.category3() == null) return "category3 가 없습니다";
+
+            String lengthError = firstError(
+                tooLongText("title", social.title()),
+                tooLongText("content", social.content()),
+                tooLong("url", social.url(), 1000),
+                tooLong("source", social.source(), 500),
+                tooLong("sentiment", social.sentiment(), 500)
+            );
+            if (lengthError != null) return lengthError;
+
+            Long category3Id = lookup.find(snapshot -> snapshot.category3IdByCode().get(social.category3()));
+            if (category3Id == null) return "알 수 없는 category3 " + social.category3();
+            category3IdByCode.put(social.category3(), category3Id);
+            return null;
+        });
+    }
+
+    /**
+     * 남은 레코드를 쓰고 종료
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        newsPipeline.close(Duration.ofSeconds(30));
+        socialPipeline.close(Duration.ofSeconds(30));
+    }
+
+    /**
+     * validator: 받을 수 없는 레코드면 사유, 받으면 null
+     */
+    private <T> IngestResult ingest(
+        InputStream body, Class<T> type, IngestPipeline<T> pipeline, Function<T, String> validator
+    ) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(type);
+        IngestTicket ticket = new IngestTicket();
+        Long resumeFromLine = null;
+        long lineNumber = 0;
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+
+            T record;
+            try {
+                record = reader.readValue(line);
+            } catch (JsonProcessingException e) {
+                ticket.reject(lineNumber, e.getOriginalMessage());
+                continue;
+            }
+
+            String error = validator.apply(record);
+            if (error != null) {
+                ticket.reject(lineNumber, error);
+                continue;
+            }
+
+            try {
+                if (!pipeline.offer(record, lineNumber, ticket, enqueueTimeout)) {
+                    resumeFromLine = lineNumber;
+                    break;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                resumeFromLine = lineNumber;
+                break;
+            }
+        }
+
+        return ticket.awaitResult(resumeFromLine);
+    }
+
+    private static String tooLong(String column, String value, int maxChars) {
+        if (value == null || value.codePointCount(0, value.length()) <= maxChars) return null;
+        return column + " 가 " + maxChars + "자를 넘습니다";
+    }
+
+    private static String tooLongText(String column, String value) {
+        // UTF-16 한 글자는 UTF-8 로 3바이트 이하 (대리 쌍 두 글자는 4바이트)
+        if (value == null || value.length() * 3 <= TEXT_MAX_BYTES) return null;
+        if (value.getBytes(StandardCharsets.UTF_8).length <= TEXT_MAX_BYTES) return null;
+        return column + " 가 " + TEXT_MAX_BYTES + "바이트를 넘습니다";
+    }
+
+    private static String firstError(String... errors) {
+        for (String error : errors) {
+            if (error != null) return error;
+        }
+        return null;
+    }
+
+    /**
+     * 계층 스냅샷 조회 (못 찾으면 요청당 한 번만 다시 읽고 재시도)
+     */
+    private final class CodeLookup {
+
+        private HierarchySnapshot snapshot = hierarchyIndex.current();
+        private boolean refreshed;
+
+        <V> V find(Function<HierarchySnapshot, V> lookup) {
+            V value = lookup.apply(snapshot);
+            if (value == null && !refreshed) {
+                snapshot = hierarchyIndex.refresh();
+                refreshed = true;
+                value = lookup.apply(snapshot);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.aida.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.aida.backend.dto.IngestResult;
+
+/**
+ * 수집 요청 하나의 진행 상황 (요청 스레드와 쓰기 스레드가 함께 갱신)
+ * - 큐에 넣은 레코드가 모두 저장되거나 거절되면 완료
+ * - 요청 스레드가 본문을 다 읽기 전에는 완료되지 않도록 pending 을 1에서 시작
+ */
+final class IngestTicket {
+
+    // 결과에 담는 오류 줄 수
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger reportedErrors = new AtomicInteger();
+
+    private final AtomicLong pending = new AtomicLong(1);
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    void enqueued() {
+        pending.incrementAndGet();
+    }
+
+    void withdrawn() {
+        settle(1);
+    }
+
+    void accepted(int count) {
+        accepted.addAndGet(count);
+        settle(count);
+    }
+
+    void rejectQueued(long lineNumber, String reason) {
+        reject(lineNumber, reason);
+        settle(1);
+    }
+
+    /**
+     * 큐에 넣기 전에 거절 (형식 / code 오류)
+     */
+    void reject(long lineNumber, String reason) {
+        rejected.incrementAndGet();
+        if (reportedErrors.getAndIncrement() < MAX_REPORTED_ERRORS) {
+            errors.add(lineNumber + ": " + reason);
+        }
+    }
+
+    /**
+     * 본문을 다 읽은 뒤 큐에 넣은 레코드가 모두 끝날 때까지 기다림
+     * resumeFromLine: 대기열이 가득 차 중간에 멈췄으면 다시 보낼 첫 줄 (끝까지 읽었으면 null)
+     */
+    IngestResult awaitResult(Long resumeFromLine) {
+        settle(1);
+        done.join();
+
+        List<String> sorted = new ArrayList<>(errors);
+        sorted.sort((a, b) -> Long.compare(lineOf(a), lineOf(b)));
+        return new IngestResult(accepted.get(), rejected.get(), List.copyOf(sorted), resumeFromLine);
+    }
+
+    private void settle(long count) {
+        if (pending.addAndGet(-count) == 0) done.complete(null);
+    }
+
+    private static long lineOf(String error) {
+        return Long.parseLong(error.substring(0, error.indexOf(':')));
+    }
+}
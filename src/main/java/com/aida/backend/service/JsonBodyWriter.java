@@ -0,0 +1,15 @@
+package com.aida.backend.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * 조회가 끝난 집계를 응답 본문으로 바로 써 내려가는 작성기
+ * (응답 객체 전체를 만들지 않고 JsonGenerator에 순서대로 씀)
+ */
+@FunctionalInterface
+public interface JsonBodyWriter {
+
+    void write(JsonGenerator generator) throws IOException;
+}
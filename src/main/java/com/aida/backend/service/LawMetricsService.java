@@ -0,0 +1,277 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.dto.DailyLawArticleCountDto;
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.dto.LawArticleLatestScoreDto;
+import com.aida.backend.entity.LawArticleDailyMetrics;
+import com.aida.backend.entity.NewsDailyLawAgg;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.repository.LawArticleDailyMetricsRepository;
+import com.aida.backend.repository.NewsDailyLawAggRepository;
+import com.aida.backend.repository.SocialRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 법 조항별 일별 SCORE 원점수(law_article_daily_metrics) 생성
+ * ScoreService는 이 테이블을 읽어 정규화/순위 산정만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LawMetricsService {
+
+    // 한 번에 메모리에 올려 계산하는 구간 (일)
+    private static final int WINDOW_DAYS = 31;
+
+    // G, A 계산에 필요한 과거 일수 (0~2주 전)
+    public static final int GROWTH_LOOKBACK_DAYS = 20;
+
+    // 뉴스도 댓글도 없는 날 이 값보다 작은 V는 행을 만들지 않음
+    // 최근 3주 안에 뉴스가 1건이라도 있으면 V >= 2^(-20/7) ≈ 0.137 이므로, 건너뛴 날의 G, A는 항상 0
+    static final double V_EPSILON = 0.01;
+
+    private final NewsDailyLawAggRepository newsDailyLawAggRepository;
+    private final SocialRepository socialRepository;
+    private final HierarchyIndex hierarchyIndex;
+    private final LawArticleDailyMetricsRepository metricsRepository;
+    private final LawVScoreService lawVScoreService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * from ~ to 일자의 지표를 다시 계산 (V 시계열이 from 이전까지 최신이어야 함)
+     * WINDOW_DAYS 구간마다 지우고 다시 써서 커밋: 최초 배포 / 과거 백필에도 트랜잭션과 영속성 컨텍스트가 구간 크기로 제한됨
+     * (중간에 실패하면 호출 측 dirty 표시가 남아 다음 갱신에서 from 부터 다시 계산)
+     */
+    public void rebuildFrom(LocalDate from, LocalDate to) {
+        // 전날 기준 V 값에서 출발해 하루씩 감쇠 + 당일 건수 누적 (구간 사이에는 메모리로 이어 감)
+        Map<Long, Double> vByArticle = lawVScoreService.findVScoresBefore(from);
+
+        LocalDate windowStart = from;
+        while (!windowStart.isAfter(to)) {
+            LocalDate windowEnd = windowStart.plusDays(WINDOW_DAYS - 1);
+            if (windowEnd.isAfter(to)) windowEnd = to;
+
+            rebuildWindow(windowStart, windowEnd, windowEnd.equals(to), vByArticle);
+
+            windowStart = windowEnd.plusDays(1);
+        }
+    }
+
+    /**
+     * 한 구간을 한 트랜잭션으로 다시 계산 (마지막 구간은 그 이후 행까지 지움)
+     */
+    private void rebuildWindow(
+        LocalDate windowStart, LocalDate windowEnd, boolean lastWindow, Map<Long, Double> vByArticle
+    ) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (lastWindow) {
+                metricsRepository.deleteFrom(windowStart);
+            } else {
+                metricsRepository.deleteBetween(windowStart, windowEnd);
+            }
+
+            Map<Long, Map<LocalDate, Long>> newsCounts =
+                loadNewsCounts(windowStart.minusDays(GROWTH_LOOKBACK_DAYS), windowEnd);
+            Map<LocalDate, Map<Long, SentimentCounts>> socialCounts = loadSocialCounts(windowStart, windowEnd);
+
+            List<LawArticleDailyMetrics> rows = new ArrayList<>();
+            for (LocalDate day = windowStart; !day.isAfter(windowEnd); day = day.plusDays(1)) {
+                rows.addAll(calculateDay(day, vByArticle, newsCounts,
+                    socialCounts.getOrDefault(day, Collections.emptyMap())));
+            }
+            metricsRepository.saveAll(rows);
+        });
+    }
+
+    /**
+     * 하루치 지표 계산
+     * 당일 뉴스나 댓글이 있는 법 조항, V가 V_EPSILON 이상 남아 있는 법 조항에 대해 행을 만든다.
+     * (그 밖의 날은 마지막 행을 감쇠한 것과 같으므로 행을 만들지 않음 → 읽을 때 scoresAt 으로 복원)
+     */
+    static List<LawArticleDailyMetrics> calculateDay(
+        LocalDate day,
+        Map<Long, Double> vByArticle,
+        Map<Long, Map<LocalDate, Long>> newsCounts,
+        Map<Long, SentimentCounts> daySocial
+    ) {
+        // === V: 전날 값 감쇠 + 당일 건수 ===
+        double dailyDecay = LawVScoreService.decayWeight(1);
+        vByArticle.replaceAll((lawArticleId, v) -> v * dailyDecay);
+        for (Map.Entry<Long, Map<LocalDate, Long>> entry : newsCounts.entrySet()) {
+            Long count = entry.getValue().get(day);
+            if (count != null) {
+                vByArticle.merge(entry.getKey(), count.doubleValue(), Double::sum);
+            }
+        }
+
+        Set<Long> lawArticleIds = new HashSet<>(vByArticle.keySet());
+        lawArticleIds.addAll(daySocial.keySet());
+
+        List<LawArticleDailyMetrics> rows = new ArrayList<>();
+        for (Long lawArticleId : lawArticleIds) {
+            Map<LocalDate, Long> dailyNews = newsCounts.getOrDefault(lawArticleId, Collections.emptyMap());
+            long newsToday = dailyNews.getOrDefault(day, 0L);
+            double vScore = vByArticle.getOrDefault(lawArticleId, 0.0);
+
+            if (vScore < V_EPSILON && newsToday == 0 && !daySocial.containsKey(lawArticleId)) continue;
+
+            SentimentCounts social = daySocial.getOrDefault(lawArticleId, new SentimentCounts());
+
+            double[] growth = growthAndAcceleration(dailyNews, day);
+
+            rows.add(LawArticleDailyMetrics.builder()
+                .lawArticleId(lawArticleId)
+                .day(day)
+                .vScore(vScore)
+                .pScore(newsToday > 0 ? 1.0 : 0.0)
+                .gScore(growth[0])
+                .aScore(growth[1])
+                .cScore(controversy(social.positive, social.negative))
+                .bScore((double) (social.positive + social.negative + social.neutral))
+                .positiveCount(social.positive)
+                .negativeCount(social.negative)
+                .neutralCount(social.neutral)
+                .build());
+        }
+        return rows;
+    }
+
+    /**
+     * 기준일(day)의 법 조항별 V, G, A
+     * - 기준일 행은 그대로
+     * - 그 이전 행(이후로 변화가 없어 행을 만들지 않았거나 아직 계산 전): V는 기준일까지 감쇠, G와 A는 최근 3주 뉴스로 다시 계산
+     * @param recentNews day - GROWTH_LOOKBACK_DAYS ~ day 의 법 조항별 일별 뉴스 수 (기준일 이전 행이 없으면 비어도 됨)
+     */
+    public static List<LawArticleDayScoreDto> scoresAt(
+        LocalDate day, List<LawArticleLatestScoreDto> latestRows, List<DailyLawArticleCountDto> recentNews
+    ) {
+        Map<Long, Map<LocalDate, Long>> newsByArticle = new HashMap<>();
+        for (DailyLawArticleCountDto news : recentNews) {
+            newsByArticle.computeIfAbsent(news.lawArticleId(), k -> new HashMap<>())
+                .merge(news.day(), news.count(), Long::sum);
+        }
+
+        List<LawArticleDayScoreDto> result = new ArrayList<>(latestRows.size());
+        for (LawArticleLatestScoreDto row : latestRows) {
+            if (row.day().equals(day)) {
+                result.add(new LawArticleDayScoreDto(row.lawArticleId(), row.vScore(), row.gScore(), row.aScore()));
+                continue;
+            }
+
+            double vScore = row.vScore() * LawVScoreService.decayWeight(ChronoUnit.DAYS.between(row.day(), day));
+            double[] growth = growthAndAcceleration(
+                newsByArticle.getOrDefault(row.lawArticleId(), Collections.emptyMap()), day);
+            result.add(new LawArticleDayScoreDto(row.lawArticleId(), vScore, growth[0], growth[1]));
+        }
+        return result;
+    }
+
+    /**
+     * G, A 계산 (성장률 및 가속도)
+     * @return [G, A]
+     */
+    public static double[] growthAndAcceleration(Map<LocalDate, Long> dailyNews, LocalDate endDate) {
+        // 최근 3주간의 주별 V 점수 계산
+        double vWeek0 = 0, vWeek1 = 0, vWeek2 = 0;
+
+        for (Map.Entry<LocalDate, Long> dateEntry : dailyNews.entrySet()) {
+            LocalDate date = dateEntry.getKey();
+            if (date.isAfter(endDate)) continue;
+
+            long daysAgo = ChronoUnit.DAYS.between(date, endDate);
+            double vScore = LawVScoreService.decayWeight(daysAgo) * dateEntry.getValue();
+            long weeksAgo = ChronoUnit.WEEKS.between(date, endDate);
+
+            if (weeksAgo == 0) vWeek0 += vScore;
+            else if (weeksAgo == 1) vWeek1 += vScore;
+            else if (weeksAgo == 2) vWeek2 += vScore;
+        }
+
+        // G 계산
+        double g;
+        if (vWeek1 > 0) {
+            g = (vWeek0 - vWeek1) / vWeek1;
+        } else {
+            g = vWeek0;
+        }
+
+        // A 계산
+        double gPrevious;
+        if (vWeek2 > 0) {
+            gPrevious = (vWeek1 - vWeek2) / vWeek2;
+        } else {
+            gPrevious = vWeek1;
+        }
+
+        return new double[] { g, g - gPrevious };
+    }
+
+    /**
+     * C 계산: 논쟁도 (찬반이 팽팽할수록, 양쪽 댓글이 많을수록 높음)
+     */
+    public static double controversy(int posCount, int negCount) {
+        int totalPolarized = posCount + negCount;
+        if (totalPolarized > 1) {
+            double balanceFactor = 1.0 - Math.abs(posCount - negCount) / (double) totalPolarized;
+            return totalPolarized * balanceFactor;
+        }
+        return 0.0;
+    }
+
+    private Map<Long, Map<LocalDate, Long>> loadNewsCounts(LocalDate startDate, LocalDate endDate) {
+        Map<Long, Map<LocalDate, Long>> result = new HashMap<>();
+        for (NewsDailyLawAgg agg : newsDailyLawAggRepository.findByDayBetween(startDate, endDate)) {
+            result.computeIfAbsent(agg.getLawArticleId(), k -> new HashMap<>())
+                .merge(agg.getDay(), agg.getCount(), Long::sum);
+        }
+        return result;
+    }
+
+    private Map<LocalDate, Map<Long, SentimentCounts>> loadSocialCounts(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, Map<Long, SentimentCounts>> result = new HashMap<>();
+
+        // 소분류 → 법 조항은 계층 인덱스에서 찾음 (법 조항과 연결되지 않은 소분류는 제외)
+        HierarchySnapshot hierarchy = hierarchyIndex.current();
+
+        for (Object[] row : socialRepository.findDailyCategory3SentimentCounts(startDate, endDate)) {
+            LocalDate day = (LocalDate) row[0];
+            Long lawArticleId = hierarchy.lawArticleId(((Number) row[1]).longValue());
+            if (lawArticleId == null) continue;
+            Sentiment sentiment = (Sentiment) row[2];
+            int count = ((Number) row[3]).intValue();
+
+            SentimentCounts counts = result.computeIfAbsent(day, k -> new HashMap<>())
+                .computeIfAbsent(lawArticleId, k -> new SentimentCounts());
+
+            // 찬성/반대 카운트
+            switch (sentiment.getPolarity()) {
+                case POSITIVE -> counts.positive += count;
+                case NEGATIVE -> counts.negative += count;
+                case NEUTRAL -> counts.neutral += count;
+                // 그 외 sentiment는 C, B에 반영하지 않음 (행은 생성)
+                case NONE -> { }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 법 조항 1개의 하루치 sentiment 건수
+     */
+    static class SentimentCounts {
+        int positive = 0, negative = 0, neutral = 0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.aida.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.dto.LawArticlePeriodSumDto;
+import com.aida.backend.dto.LawRankDto;
+
+/**
+ * SCORE 순위 산정 (조회 결과만으로 계산, DB / 스프링 의존 없음)
+ * 지표 구성 → Min-Max 정규화 → IIS → TOP K → HOT 판정
+ * (ScoreService 와 benchmarks 모듈이 같은 코드를 씀)
+ */
+public final class LawRanking {
+
+    // SCORE 모델 가중치
+    private static final double W_V = 0.2;
+    private static final double W_P = 0.1;
+    private static final double W_G = 0.15;
+    private static final double W_A = 0.1;
+    private static final double W_C = 0.25;
+    private static final double W_B = 0.2;
+
+    private LawRanking() {
+    }
+
+    /**
+     * 법안별 SCORE 6가지 지표 구성
+     * - V, G, A: 기준일(endDate) 행의 값
+     * - P, C, B: 기간 내 일별 건수 합계로 계산
+     */
+    public static Map<Long, LawScores> combine(
+        List<LawArticleDayScoreDto> endDayScores, List<LawArticlePeriodSumDto> periodSums, long totalDays
+    ) {
+        Map<Long, LawScores> lawScores = new HashMap<>();
+
+        // === V, G, A ===
+        for (LawArticleDayScoreDto dayScore : endDayScores) {
+            LawScores scores = lawScores.computeIfAbsent(dayScore.lawArticleId(), k -> new LawScores());
+            scores.vRaw = dayScore.vScore();
+            scores.gRaw = dayScore.gScore();
+            scores.aRaw = dayScore.aScore();
+        }
+
+        // === P, C, B ===
+        for (LawArticlePeriodSumDto sum : periodSums) {
+            int posCount = sum.positiveCount();
+            int negCount = sum.negativeCount();
+            int neuCount = sum.neutralCount();
+
+            LawScores scores = lawScores.computeIfAbsent(sum.lawArticleId(), k -> new LawScores());
+            scores.pRaw = sum.mentionedDays() / totalDays;
+            scores.cRaw = LawMetricsService.controversy(posCount, negCount);
+            scores.bRaw = (double) (posCount + negCount + neuCount);
+        }
+
+        return lawScores;
+    }
+
+    /**
+     * Min-Max 정규화
+     */
+    public static void normalize(Map<Long, LawScores> lawScores) {
+        if (lawScores.isEmpty()) return;
+
+        double minV = lawScores.values().stream().mapToDouble(s -> s.vRaw).min().orElse(0.0);
+        double maxV = lawScores.values().stream().mapToDouble(s -> s.vRaw).max().orElse(1.0);
+        double minP = lawScores.values().stream().mapToDouble(s -> s.pRaw).min().orElse(0.0);
+        double maxP = lawScores.values().stream().mapToDouble(s -> s.pRaw).max().orElse(1.0);
+        double minG = lawScores.values().stream().mapToDouble(s -> s.gRaw).min().orElse(0.0);
+        double maxG = lawScores.values().stream().mapToDouble(s -> s.gRaw).max().orElse(1.0);
+        double minA = lawScores.values().stream().mapToDouble(s -> s.aRaw).min().orElse(0.0);
+        double maxA = lawScores.values().stream().mapToDouble(s -> s.aRaw).max().orElse(1.0);
+        double minC = lawScores.values().stream().mapToDouble(s -> s.cRaw).min().orElse(0.0);
+        double maxC = lawScores.values().stream().mapToDouble(s -> s.cRaw).max().orElse(1.0);
+        double minB = lawScores.values().stream().mapToDouble(s -> s.bRaw).min().orElse(0.0);
+        double maxB = lawScores.values().stream().mapToDouble(s -> s.bRaw).max().orElse(1.0);
+
+        for (LawScores scores : lawScores.values()) {
+            scores.vNorm = normalize(scores.vRaw, minV, maxV);
+            scores.pNorm = normalize(scores.pRaw, minP, maxP);
+            scores.gNorm = normalize(scores.gRaw, minG, maxG);
+            scores.aNorm = normalize(scores.aRaw, minA, maxA);
+            scores.cNorm = normalize(scores.cRaw, minC, maxC);
+            scores.bNorm = normalize(scores.bRaw, minB, maxB);
+        }
+    }
+
+    private static double normalize(double value, double min, double max) {
+        if (max == min) return 0.0;
+        return (value - min) / (max - min);
+    }
+
+    /**
+     * IIS 계산 → 상위 limit 개 선정 → HOT 판정 (정규화가 끝난 지표)
+     *
+     * @param lawName 법 조항 id → 표시명
+     */
+    public static List<LawRankDto> rankTop(Map<Long, LawScores> lawScores, int limit, Function<Long, String> lawName) {
+        // IIS 계산
+        Map<Long, Double> lawIISScores = new HashMap<>();
+        for (Map.Entry<Long, LawScores> entry : lawScores.entrySet()) {
+            LawScores scores = entry.getValue();
+            double iis = (W_V * scores.vNorm) + (W_P * scores.pNorm) +
+                        (W_G * scores.gNorm) + (W_A * scores.aNorm) +
+                        (W_C * scores.cNorm) + (W_B * scores.bNorm);
+            lawIISScores.put(entry.getKey(), iis);
+            scores.iis = iis;
+        }
+
+        // TOP K 선정
+        List<Map.Entry<Long, Double>> topLaws = lawIISScores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+
+        List<LawRankDto> ranking = new ArrayList<>();
+        for (Map.Entry<Long, Double> entry : topLaws) {
+            // HOT 판정
+            String hot = determineHot(lawScores.get(entry.getKey()), lawScores, lawIISScores);
+            ranking.add(new LawRankDto(entry.getKey(), lawName.apply(entry.getKey()), hot));
+        }
+        return ranking;
+    }
+
+    /**
+     * HOT 판정
+     * 기준:
+     * 1. IIS 상위 30% 또는
+     * 2. G(성장률) 정규화 점수 > 0.7 (급성장) 또는
+     * 3. C(논쟁도) 상위 20% (극심한 논쟁)
+     */
+    public static String determineHot(
+        LawScores scores,
+        Map<Long, LawScores> allLawScores,
+        Map<Long, Double> allIISScores
+    ) {
+        if (allIISScores.isEmpty()) return "n";
+
+        // 조건 1: IIS 상위 30%
+        List<Double> sortedIIS = allIISScores.values().stream()
+            .sorted(Comparator.reverseOrder())
+            .collect(Collectors.toList());
+        int top30Index = (int) Math.ceil(sortedIIS.size() * 0.3);
+        double top30Threshold = sortedIIS.get(Math.min(top30Index - 1, sortedIIS.size() - 1));
+        boolean isTopIIS = scores.iis >= top30Threshold;
+
+        // 조건 2: 성장률 높음 (정규화 점수 0.7 이상)
+        boolean isHighGrowth = scores.gNorm > 0.7;
+
+        // 조건 3: 논쟁도 상위 20%
+        List<Double> sortedC = allLawScores.values().stream()
+            .map(s -> s.cNorm)
+            .sorted(Comparator.reverseOrder())
+            .collect(Collectors.toList());
+        int top20Index = (int) Math.ceil(sortedC.size() * 0.2);
+        double top20CThreshold = sortedC.get(Math.min(top20Index - 1, sortedC.size() - 1));
+        boolean isHighControversy = scores.cNorm >= top20CThreshold;
+
+        return (isTopIIS || isHighGrowth || isHighControversy) ? "y" : "n";
+    }
+
+    /**
+     * 법안별 점수 (원점수 → 정규화 점수 → IIS)
+     */
+    public static final class LawScores {
+        double vRaw = 0.0, pRaw = 0.0, gRaw = 0.0, aRaw = 0.0, cRaw = 0.0, bRaw = 0.0;
+        double vNorm = 0.0, pNorm = 0.0, gNorm = 0.0, aNorm = 0.0, cNorm = 0.0, bNorm = 0.0;
+        double iis = 0.0;
+
+        public double iis() {
+            return iis;
+        }
+    }
+}
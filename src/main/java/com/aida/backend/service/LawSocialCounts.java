@@ -0,0 +1,52 @@
+package com.aida.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.aida.backend.dto.Category3SentimentCountDto;
+import com.aida.backend.dto.SocialNetworkQueryDto;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.service.HierarchySnapshot.Category3Node;
+
+/**
+ * 기간 내 법 조항별 댓글 집계 (소분류 × sentiment 집계 한 번으로 모두 채움)
+ *
+ * @param commentCounts 법 조항 → 댓글 수 (모든 sentiment, TOP 5)
+ * @param stances       법 조항 → 스탠스별 댓글 수 (TOP 5)
+ * @param stanceRows    법 조항 × 소분류 × sentiment 건수 (스탠스 집계 대상만, 네트워크 그래프)
+ */
+public record LawSocialCounts(
+    Map<Long, Integer> commentCounts,
+    Map<Long, StanceCounts> stances,
+    List<SocialNetworkQueryDto> stanceRows
+) {
+
+    /**
+     * 소분류별 집계를 받아 계층 스냅샷으로 법 조항 / 소분류명을 붙여 집계
+     */
+    public static LawSocialCounts from(List<Category3SentimentCountDto> rows, HierarchySnapshot hierarchy) {
+        Map<Long, Integer> commentCounts = new HashMap<>();
+        Map<Long, StanceCounts> stances = new HashMap<>();
+        List<SocialNetworkQueryDto> stanceRows = new ArrayList<>();
+
+        for (Category3SentimentCountDto row : rows) {
+            Category3Node category3 = hierarchy.category3(row.category3Id());
+            if (category3 == null || category3.lawArticleId() == null) continue;
+
+            Long lawArticleId = category3.lawArticleId();
+            Sentiment sentiment = row.sentiment();
+            long count = row.count();
+
+            // 댓글 수: 모든 sentiment
+            commentCounts.merge(lawArticleId, (int) count, Integer::sum);
+
+            // 스탠스: 집계 대상 sentiment만
+            if (!sentiment.isStanceTarget()) continue;
+            stances.computeIfAbsent(lawArticleId, k -> new StanceCounts()).add(sentiment.getStance(), (int) count);
+            stanceRows.add(new SocialNetworkQueryDto(lawArticleId, category3.name(), sentiment, count));
+        }
+        return new LawSocialCounts(commentCounts, stances, stanceRows);
+    }
+}
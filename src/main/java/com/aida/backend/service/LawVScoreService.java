@@ -0,0 +1,125 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.entity.LawArticleVScore;
+import com.aida.backend.entity.NewsDailyLawAgg;
+import com.aida.backend.repository.LawArticleVScoreRepository;
+import com.aida.backend.repository.NewsDailyLawAggRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 법 조항별 V 점수 시계열(law_article_v_daily) 관리
+ * 임의 기준일의 V는 "기준일 이전 마지막 행 × 감쇠" 한 번의 조회로 구한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class LawVScoreService {
+
+    // V 점수 반감기 (일)
+    private static final double HALF_LIFE_DAYS = 7.0;
+
+    // 한 트랜잭션에서 다시 계산하는 구간 (일)
+    private static final int WINDOW_DAYS = 31;
+
+    private final LawArticleVScoreRepository vScoreRepository;
+    private final NewsDailyLawAggRepository newsDailyLawAggRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * daysAgo 일 전 뉴스 1건의 가중치: 2^(-daysAgo / 7)
+     */
+    public static double decayWeight(long daysAgo) {
+        return Math.pow(2, -daysAgo / HALF_LIFE_DAYS);
+    }
+
+    /**
+     * 기준일(day) 전날까지의 법 조항별 V 값
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Double> findVScoresBefore(LocalDate day) {
+        LocalDate previousDay = day.minusDays(1);
+
+        Map<Long, Double> result = new HashMap<>();
+        for (LawArticleVScore score : vScoreRepository.findLatestBefore(day)) {
+            long daysAgo = ChronoUnit.DAYS.between(score.getDay(), previousDay);
+            result.put(score.getLawArticleId(), score.getVScore() * decayWeight(daysAgo));
+        }
+        return result;
+    }
+
+    public boolean isEmpty() {
+        return vScoreRepository.count() == 0;
+    }
+
+    /**
+     * from 일자부터 V 시계열을 다시 계산
+     * (평소에는 오늘 하루치만, 과거 날짜 뉴스가 늦게 들어오면 그 날짜부터)
+     * WINDOW_DAYS 구간마다 지우고 다시 써서 커밋: 최초 배포 / 과거 백필에도 트랜잭션과 영속성 컨텍스트가 구간 크기로 제한됨
+     * (중간에 실패하면 호출 측 dirty 표시가 남아 다음 갱신에서 from 부터 다시 계산)
+     */
+    public void rebuildFrom(LocalDate from) {
+        // 재계산 시작일 직전 값을 초기값으로 사용 (이후 구간은 앞 구간의 마지막 값에서 이어 감)
+        Map<Long, LawArticleVScore> lastByArticle = new HashMap<>();
+        for (LawArticleVScore score : vScoreRepository.findLatestBefore(from)) {
+            lastByArticle.put(score.getLawArticleId(), score);
+        }
+
+        LocalDate lastDay = newsDailyLawAggRepository.findLastDay();
+
+        LocalDate windowStart = from;
+        boolean lastWindow;
+        do {
+            LocalDate windowEnd = windowStart.plusDays(WINDOW_DAYS - 1);
+            lastWindow = lastDay == null || !windowEnd.isBefore(lastDay);
+            rebuildWindow(windowStart, windowEnd, lastWindow, lastByArticle);
+            windowStart = windowEnd.plusDays(1);
+        } while (!lastWindow);
+    }
+
+    /**
+     * 한 구간을 한 트랜잭션으로 다시 계산 (마지막 구간은 그 이후 행까지 지움)
+     */
+    private void rebuildWindow(
+        LocalDate windowStart, LocalDate windowEnd, boolean lastWindow, Map<Long, LawArticleVScore> lastByArticle
+    ) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (lastWindow) {
+                vScoreRepository.deleteFrom(windowStart);
+            } else {
+                vScoreRepository.deleteBetween(windowStart, windowEnd);
+            }
+
+            List<LawArticleVScore> rebuilt = new ArrayList<>();
+            for (NewsDailyLawAgg agg : newsDailyLawAggRepository.findByDayBetweenOrderByLawArticleIdAscDayAsc(windowStart, windowEnd)) {
+                LawArticleVScore prev = lastByArticle.get(agg.getLawArticleId());
+
+                // V(d) = V(prev) · 2^(-(d - prev) / 7) + count(d)
+                double vScore = agg.getCount();
+                if (prev != null) {
+                    vScore += prev.getVScore() * decayWeight(ChronoUnit.DAYS.between(prev.getDay(), agg.getDay()));
+                }
+
+                LawArticleVScore current = LawArticleVScore.builder()
+                    .lawArticleId(agg.getLawArticleId())
+                    .day(agg.getDay())
+                    .vScore(vScore)
+                    .build();
+
+                rebuilt.add(current);
+                lastByArticle.put(agg.getLawArticleId(), current);
+            }
+            vScoreRepository.saveAll(rebuilt);
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.aida.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aida.backend.dto.LiveDashboardUpdate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ⭐️ 대시보드 실시간 갱신 (SSE)
+ * - 같은 기간 구독자는 LiveRangeFeed 하나를 공유: 데이터가 바뀌면 기간마다 한 번만 다시 계산
+ * - 집계 변경 이벤트의 from 이후가 종료일에 걸리는 기간만 다시 계산 (DashboardCache 무효화와 같은 기준)
+ * - 계산은 dashboardExecutor 에서 (이벤트를 발행한 집계 갱신을 붙잡지 않음)
+ * - 구독이 모두 끊긴 기간은 정리
+ */
+@Slf4j
+@Service
+public class LiveDashboardService {
+
+    private final DashboardService dashboardService;
+    private final ScoreService scoreService;
+    private final DashboardCache dashboardCache;
+    private final Executor dashboardExecutor;
+    private final Duration emitterTimeout;
+
+    private final Map<RangeKey, LiveRangeFeed> feeds = new ConcurrentHashMap<>();
+
+    public LiveDashboardService(
+        DashboardService dashboardService,
+        ScoreService scoreService,
+        DashboardCache dashboardCache,
+        @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+        @Value("${aida.live.timeout:PT30M}") Duration emitterTimeout
+    ) {
+        this.dashboardService = dashboardService;
+        this.scoreService = scoreService;
+        this.dashboardCache = dashboardCache;
+        this.dashboardExecutor = dashboardExecutor;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    /**
+     * 기간 구독: 먼저 현재 값(snapshot), 이후 바뀐 것만(delta)
+     * (timeout 이 지나면 연결을 닫음, EventSource 는 자동으로 다시 연결)
+     */
+    public SseEmitter subscribe(LocalDate startDate, LocalDate endDate) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        RangeKey key = new RangeKey(startDate, endDate);
+
+        Runnable unsubscribe = () -> unsubscribe(key, emitter);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        // 정리(구독자 없는 기간 제거)와 겹치지 않도록 구독 추가는 맵 갱신 안에서, 계산은 밖에서
+        LiveRangeFeed feed = feeds.compute(key, (k, existing) -> {
+            LiveRangeFeed target = existing != null
+                ? existing
+                : new LiveRangeFeed(startDate, endDate, () -> load(startDate, endDate));
+            target.join(emitter);
+            return target;
+        });
+        feed.sendSnapshot(emitter);
+
+        return emitter;
+    }
+
+    /**
+     * 캐시 무효화 뒤에 실행 (다시 계산한 값이 무효화 전 캐시를 읽지 않도록)
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onDataChanged(DashboardDataChangedEvent event) {
+        for (LiveRangeFeed feed : feeds.values()) {
+            if (feed.affectedBy(event) && feed.markRefreshPending()) {
+                dashboardExecutor.execute(() -> refresh(feed));
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${aida.live.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        feeds.values().forEach(LiveRangeFeed::heartbeat);
+        for (RangeKey key : feeds.keySet()) {
+            feeds.computeIfPresent(key, (k, feed) -> feed.hasSubscribers() ? feed : null);
+        }
+    }
+
+    /**
+     * 종료 시작 시 열린 SSE 연결을 닫음 (graceful shutdown 이 끝나지 않는 요청으로 보고 기다리지 않도록)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        feeds.values().forEach(LiveRangeFeed::close);
+    }
+
+    private void refresh(LiveRangeFeed feed) {
+        try {
+            feed.refresh();
+        } catch (RuntimeException e) {
+            // 다음 변경 이벤트에서 다시 계산
+            log.warn("실시간 갱신 실패 {} ~ {}: {}", feed.startDate, feed.endDate, e.getMessage());
+        }
+    }
+
+    private void unsubscribe(RangeKey key, SseEmitter emitter) {
+        feeds.computeIfPresent(key, (k, feed) -> {
+            feed.unsubscribe(emitter);
+            return feed.hasSubscribers() ? feed : null;
+        });
+    }
+
+    /**
+     * 기간의 현재 값 (TOP 5는 /legal-top5 와 같은 캐시 항목을 공유)
+     */
+    private LiveDashboardUpdate load(LocalDate startDate, LocalDate endDate) {
+        return new LiveDashboardUpdate(
+            dashboardService.getKpiSummary(startDate, endDate),
+            dashboardService.getStanceArea(startDate, endDate).data(),
+            dashboardCache.get("legal-top5", startDate, endDate, () -> scoreService.getLegalTop5(startDate, endDate)));
+    }
+
+    private record RangeKey(LocalDate startDate, LocalDate endDate) {}
+}
@@ -0,0 +1,195 @@
+package com.aida.backend.service;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aida.backend.dto.KpiDailyData;
+import com.aida.backend.dto.KpiJson;
+import com.aida.backend.dto.LegalTop5ResponseDto;
+import com.aida.backend.dto.LiveDashboardUpdate;
+import com.aida.backend.dto.StanceAreaDto;
+
+/**
+ * 한 기간(시작일 ~ 종료일)의 실시간 구독
+ * - 기간의 현재 값은 구독자 수와 상관없이 변경마다 한 번만 계산하고 이전 값과 비교해 바뀐 것만 보냄
+ * - 계산과 전송은 잠금 하나로 순서를 지킴 (구독자가 snapshot 과 delta 를 순서대로 받도록)
+ */
+final class LiveRangeFeed {
+
+    static final String SNAPSHOT = "snapshot";
+    static final String DELTA = "delta";
+
+    final LocalDate startDate;
+    final LocalDate endDate;
+
+    private final Supplier<LiveDashboardUpdate> loader;
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // 추가됐지만 아직 snapshot 을 받지 않은 구독자 (delta 를 snapshot 보다 먼저 받지 않도록 따로 둠)
+    private final List<SseEmitter> joining = new CopyOnWriteArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 갱신이 이미 예약되어 있으면 더 예약하지 않음 (예약된 갱신이 최신 값을 읽음)
+    private final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    // 마지막으로 보낸 값 (첫 구독 전에는 null)
+    private LiveDashboardUpdate last;
+
+    LiveRangeFeed(LocalDate startDate, LocalDate endDate, Supplier<LiveDashboardUpdate> loader) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.loader = loader;
+    }
+
+    /**
+     * 구독자 추가 (가벼운 작업만: 구독 맵 갱신 안에서 호출)
+     */
+    void join(SseEmitter emitter) {
+        joining.add(emitter);
+    }
+
+    /**
+     * join 한 구독자에게 현재 값을 snapshot 으로 보내고 delta 대상에 넣음
+     */
+    void sendSnapshot(SseEmitter emitter) {
+        lock.lock();
+        try {
+            if (!joining.remove(emitter)) return; // 그 사이 연결이 끊김
+            if (last == null) last = loader.get();
+            emitters.add(emitter);
+            send(emitter, SNAPSHOT, last);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void unsubscribe(SseEmitter emitter) {
+        joining.remove(emitter);
+        emitters.remove(emitter);
+    }
+
+    boolean hasSubscribers() {
+        return !emitters.isEmpty() || !joining.isEmpty();
+    }
+
+    boolean affectedBy(DashboardDataChangedEvent event) {
+        return !endDate.isBefore(event.from());
+    }
+
+    /**
+     * 갱신 예약: 이미 예약되어 있으면 false
+     */
+    boolean markRefreshPending() {
+        return refreshPending.compareAndSet(false, true);
+    }
+
+    /**
+     * 다시 계산해서 바뀐 것이 있으면 모든 구독자에게 delta 전송
+     */
+    void refresh() {
+        refreshPending.set(false);
+        lock.lock();
+        try {
+            if (emitters.isEmpty()) {
+                // 보낼 곳이 없으면 이전 값은 버림 (다음 구독자는 새로 계산한 snapshot 을 받음)
+                last = null;
+                return;
+            }
+
+            LiveDashboardUpdate current = loader.get();
+            LiveDashboardUpdate delta = last != null ? diff(last, current) : current;
+            last = current;
+            if (delta.isEmpty()) return;
+
+            for (SseEmitter emitter : emitters) send(emitter, DELTA, delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 이벤트 (끊긴 구독자를 찾아 정리)
+     */
+    void heartbeat() {
+        lock.lock();
+        try {
+            for (SseEmitter emitter : emitters) {
+                try {
+                    emitter.send(SseEmitter.event().comment("ping"));
+                } catch (IOException | IllegalStateException e) {
+                    drop(emitter, e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 모든 구독 종료 (종료 시: 클라이언트는 다시 연결)
+     */
+    void close() {
+        joining.forEach(SseEmitter::complete);
+        emitters.forEach(SseEmitter::complete);
+    }
+
+    private void send(SseEmitter emitter, String name, LiveDashboardUpdate update) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(update));
+        } catch (IOException | IllegalStateException e) {
+            drop(emitter, e);
+        }
+    }
+
+    private void drop(SseEmitter emitter, Exception cause) {
+        emitters.remove(emitter);
+        emitter.completeWithError(cause);
+    }
+
+    /**
+     * previous → current 에서 바뀐 것만
+     */
+    static LiveDashboardUpdate diff(LiveDashboardUpdate previous, LiveDashboardUpdate current) {
+        Map<String, KpiJson> kpi = new LinkedHashMap<>();
+        current.kpi().forEach((category, currentKpi) -> {
+            KpiJson previousKpi = previous.kpi().get(category);
+            List<KpiDailyData> changedDays = previousKpi != null
+                ? changed(previousKpi.dailyData(), currentKpi.dailyData(), KpiDailyData::date)
+                : currentKpi.dailyData();
+            if (previousKpi == null || !changedDays.isEmpty() || !previousKpi.summary().equals(currentKpi.summary())) {
+                kpi.put(category, new KpiJson(currentKpi.summary(), changedDays));
+            }
+        });
+
+        List<StanceAreaDto> stanceArea = changed(previous.stanceArea(), current.stanceArea(), StanceAreaDto::date);
+
+        Map<String, LegalTop5ResponseDto> legalTop5 =
+            previous.legalTop5().equals(current.legalTop5()) ? Map.of() : current.legalTop5();
+
+        return new LiveDashboardUpdate(kpi, stanceArea, legalTop5);
+    }
+
+    /**
+     * 일자별 행 중 이전과 다른 행 (일자 순서 유지)
+     */
+    private static <T> List<T> changed(List<T> previous, List<T> current, Function<T, String> date) {
+        Map<String, T> previousByDate = new HashMap<>();
+        for (T row : previous) previousByDate.put(date.apply(row), row);
+
+        return current.stream()
+            .filter(row -> !Objects.equals(previousByDate.get(date.apply(row)), row))
+            .toList();
+    }
+}
@@ -0,0 +1,71 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+
+import com.aida.backend.dto.SocialOpinionQueryDto;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.repository.DashboardReadRepository;
+import com.aida.backend.service.HierarchySnapshot.Category3Node;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 네트워크 그래프 대표 의견 조회
+ * TOP 5 법 조항의 (소분류, sentiment) 그룹별 상위 N건만 DB에서 골라 받는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NetworkOpinionService {
+
+    // (법 조항, 소분류, sentiment) 그룹당 대표 의견 수
+    public static final int OPINIONS_PER_GROUP = 5;
+
+    private final DashboardReadRepository dashboardReadRepository;
+    private final HierarchyIndex hierarchyIndex;
+
+    /**
+     * 법 조항 id → 소분류명 → sentiment → 대표 의견 목록
+     * (조회 결과는 한 행씩 받아 바로 묶음)
+     */
+    public Map<Long, Map<String, Map<Sentiment, List<String>>>> findTopOpinions(
+        Collection<Long> lawArticleIds, LocalDate startDate, LocalDate endDate
+    ) {
+        Map<Long, Map<String, Map<Sentiment, List<String>>>> opinionMap = new HashMap<>();
+
+        // 법 조항 → 연결된 소분류 id (계층 인덱스)
+        HierarchySnapshot hierarchy = hierarchyIndex.current();
+        List<Long> category3Ids = new ArrayList<>();
+        for (Long lawArticleId : lawArticleIds) {
+            category3Ids.addAll(hierarchy.category3Ids(lawArticleId));
+        }
+        if (category3Ids.isEmpty()) return opinionMap;
+
+        // 스탠스 집계 대상 sentiment 코드만 (sentiment_code 인덱스 사용)
+        List<Byte> sentimentCodes = Sentiment.STANCE_TARGETS.stream().map(Sentiment::getCode).toList();
+
+        dashboardReadRepository.forEachTopOpinion(
+                category3Ids, sentimentCodes, startDate, endDate, OPINIONS_PER_GROUP, row -> {
+            Category3Node category3 = hierarchy.category3(row.category3Id());
+            SocialOpinionQueryDto opinion = new SocialOpinionQueryDto(
+                category3.lawArticleId(), category3.name(), row.sentiment(), row.content());
+
+            List<String> opinions = opinionMap
+                .computeIfAbsent(opinion.lawArticleId(), k -> new HashMap<>())
+                .computeIfAbsent(opinion.cat3Name(), k -> new EnumMap<>(Sentiment.class))
+                .computeIfAbsent(opinion.sentiment(), k -> new ArrayList<>());
+            // 같은 이름의 소분류가 여럿이면 합쳐서 그룹당 최대 N건
+            if (opinions.size() < OPINIONS_PER_GROUP) {
+                opinions.add(opinion.content());
+            }
+        });
+        return opinionMap;
+    }
+}
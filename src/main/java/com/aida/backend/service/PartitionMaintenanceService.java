@@ -0,0 +1,66 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본(news, social) 월 파티션 유지
+ * 이번 달 + monthsAhead 까지의 월 파티션이 없으면 pmax(MAXVALUE)를 나눠 미리 만든다.
+ * (pmax는 비어 있으므로 REORGANIZE 비용이 거의 없음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("news", "social");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${aida.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Scheduled(cron = "${aida.partition.cron:0 0 4 * * *}")
+    public void ensureFuturePartitions() {
+        YearMonth lastMonth = YearMonth.now().plusMonths(monthsAhead);
+
+        for (String table : PARTITIONED_TABLES) {
+            ensurePartitionsUntil(table, lastMonth);
+        }
+    }
+
+    void ensurePartitionsUntil(String table, YearMonth lastMonth) {
+        // 월 파티션의 상한: '2025-10-01' 형태 (pmax는 MAXVALUE)
+        List<String> upperBounds = jdbcTemplate.queryForList(
+            "SELECT PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+            String.class, table);
+
+        // 파티션되지 않은 테이블 (V3 마이그레이션 전)
+        if (upperBounds.isEmpty()) return;
+
+        YearMonth covered = upperBounds.stream()
+            .filter(bound -> !"MAXVALUE".equals(bound))
+            .map(bound -> YearMonth.from(LocalDate.parse(bound.replace("'", ""))).minusMonths(1))
+            .max(YearMonth::compareTo)
+            .orElse(YearMonth.now().minusMonths(1));
+
+        if (!covered.isBefore(lastMonth)) return;
+
+        StringBuilder partitions = new StringBuilder();
+        for (YearMonth month = covered.plusMonths(1); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            partitions.append(String.format("PARTITION p%d%02d VALUES LESS THAN ('%s'), ",
+                month.getYear(), month.getMonthValue(), month.plusMonths(1).atDay(1)));
+        }
+        partitions.append("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION pmax INTO (" + partitions + ")");
+    }
+}
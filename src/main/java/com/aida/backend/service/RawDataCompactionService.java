@@ -0,0 +1,163 @@
+package com.aida.backend.service;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.entity.AggregationWatermark;
+import com.aida.backend.entity.NewsDailyCategoryAgg;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.entity.SocialDailyAgg;
+import com.aida.backend.repository.AggregationWatermarkRepository;
+import com.aida.backend.repository.NewsDailyCategoryAggRepository;
+import com.aida.backend.repository.NewsRepository;
+import com.aida.backend.repository.SocialDailyAggRepository;
+import com.aida.backend.repository.SocialRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 원본(news, social) 압축
+ * - 건수는 이미 일별 집계 테이블에 있으므로 원본은 표시에 필요한 만큼만 남김
+ *   · 댓글: (일자, 소분류, sentiment)별 id 순 대표 의견 N건
+ *   · 뉴스: 소분류 대표 기사로 지정된 행
+ * - 집계 워터마크 이하(이미 반영된) 행만 지움
+ * - 하루치 원본 건수가 일별 집계와 그룹마다 같은 날만 지움 (집계에서 빠진 행이 있으면 그날은 건너뜀)
+ * - 기본은 꺼져 있음: aida.retention.enabled=true 일 때만 등록
+ * - 대시보드 / SCORE(V 시계열 포함)는 모두 일별 집계 테이블을 읽으므로 압축된 기간도 결과가 같음
+ * - 압축한 기간은 원본으로 일별 집계를 다시 만들 수 없음 (집계 테이블이 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "aida.retention", name = "enabled", havingValue = "true")
+public class RawDataCompactionService {
+
+    private final SocialRepository socialRepository;
+    private final SocialDailyAggRepository socialDailyAggRepository;
+    private final NewsRepository newsRepository;
+    private final NewsDailyCategoryAggRepository newsDailyCategoryAggRepository;
+    private final AggregationWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 원본을 그대로 두는 기간 (일)
+    @Value("${aida.retention.raw-days:365}")
+    private int rawDays;
+
+    // (일자, 소분류, sentiment)별로 남길 대표 의견 수 (네트워크 그래프 그룹당 의견 수보다 적으면 그 수로)
+    @Value("${aida.retention.sampled-opinions:5}")
+    private int sampledOpinions;
+
+    // 이 일자 이전은 압축 완료 (재시작 후 첫 실행은 가장 오래된 일자부터 다시 확인, 이미 압축된 날은 지울 행이 없음)
+    private LocalDate socialCompactedBefore;
+    private LocalDate newsCompactedBefore;
+
+    @Scheduled(cron = "${aida.retention.cron:0 30 3 * * *}")
+    public void compact() {
+        LocalDate cutoff = LocalDate.now().minusDays(rawDays);
+        int keep = Math.max(sampledOpinions, NetworkOpinionService.OPINIONS_PER_GROUP);
+
+        socialCompactedBefore = compactDays(DailyAggregationService.SOCIAL_DAILY_AGG, socialCompactedBefore,
+            socialRepository::findFirstDay, cutoff, this::socialCounts, this::socialAggCounts,
+            (day, maxId) -> socialRepository.deleteUnsampledByDay(day, maxId, keep));
+
+        newsCompactedBefore = compactDays(DailyAggregationService.NEWS_DAILY_AGG, newsCompactedBefore,
+            newsRepository::findFirstDay, cutoff, this::newsCounts, this::newsAggCounts,
+            newsRepository::deleteUnreferencedByDay);
+    }
+
+    /**
+     * [from, cutoff) 일자를 하루씩 한 트랜잭션으로 압축하고, 압축이 끝난 다음 일자를 돌려줌
+     * rawCounts(워터마크 이하 원본) 와 aggCounts(일별 집계) 가 그룹마다 같은 날만 압축
+     */
+    private LocalDate compactDays(
+        String watermarkName, LocalDate from, Supplier<LocalDate> firstDay, LocalDate cutoff,
+        BiFunction<LocalDate, Long, Map<List<Object>, Long>> rawCounts,
+        Function<LocalDate, Map<List<Object>, Long>> aggCounts,
+        BiConsumer<LocalDate, Long> compactor
+    ) {
+        // 아직 집계 전이면 지울 수 있는 행이 없음
+        Long maxId = watermarkRepository.findById(watermarkName)
+            .map(AggregationWatermark::getLastId)
+            .orElse(null);
+        if (maxId == null) return from;
+
+        LocalDate day = from != null ? from : firstDay.get();
+        if (day == null) return null;
+
+        for (; day.isBefore(cutoff); day = day.plusDays(1)) {
+            LocalDate compactDay = day;
+            transactionTemplate.executeWithoutResult(status -> {
+                if (reconciles(watermarkName, compactDay, rawCounts.apply(compactDay, maxId), aggCounts.apply(compactDay))) {
+                    compactor.accept(compactDay, maxId);
+                }
+            });
+        }
+        return day;
+    }
+
+    /**
+     * 원본 건수가 집계와 그룹마다 같은지
+     * - 원본이 더 많은 그룹: 집계에서 빠진 행 → 지우면 건수를 잃으므로 건너뛰고 경고
+     * - 원본이 더 적은 그룹: 이미 압축한 날 (다시 지울 행 없음)
+     */
+    private boolean reconciles(String watermarkName, LocalDate day, Map<List<Object>, Long> raw, Map<List<Object>, Long> agg) {
+        if (raw.equals(agg)) return true;
+
+        boolean uncounted = raw.entrySet().stream()
+            .anyMatch(entry -> entry.getValue() > agg.getOrDefault(entry.getKey(), 0L));
+        if (uncounted) {
+            log.warn("{} {}: 원본 건수가 일별 집계보다 많아 압축하지 않음 (원본 {}, 집계 {})", watermarkName, day, raw, agg);
+        }
+        return false;
+    }
+
+    // 원본 (소분류 id, sentiment)별 건수: 집계와 같게 소분류 없음은 0, sentiment 없음은 UNKNOWN
+    private Map<List<Object>, Long> socialCounts(LocalDate day, Long maxId) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (Object[] row : socialRepository.countByDayUpTo(day, maxId)) {
+            Long category3Id = row[0] != null ? ((Number) row[0]).longValue() : 0L;
+            Sentiment sentiment = row[1] != null ? (Sentiment) row[1] : Sentiment.UNKNOWN;
+            counts.merge(List.of(category3Id, sentiment), ((Number) row[2]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private Map<List<Object>, Long> socialAggCounts(LocalDate day) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (SocialDailyAgg agg : socialDailyAggRepository.findByDay(day)) {
+            counts.put(List.of(agg.getCategory3Id(), agg.getSentiment()), agg.getCount());
+        }
+        return counts;
+    }
+
+    // 원본 대분류별 건수: 집계와 같게 대분류 없음은 ""
+    private Map<List<Object>, Long> newsCounts(LocalDate day, Long maxId) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (Object[] row : newsRepository.countByDayUpTo(day, maxId)) {
+            String category = row[0] != null ? (String) row[0] : "";
+            counts.merge(List.of(category), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private Map<List<Object>, Long> newsAggCounts(LocalDate day) {
+        Map<List<Object>, Long> counts = new HashMap<>();
+        for (NewsDailyCategoryAgg agg : newsDailyCategoryAggRepository.findByDay(day)) {
+            counts.put(List.of(agg.getCategory()), agg.getCount());
+        }
+        return counts;
+    }
+}
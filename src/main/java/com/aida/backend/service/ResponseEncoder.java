@@ -0,0 +1,55 @@
+package com.aida.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * 응답 객체를 형식별 바이트 + gzip 바이트로 한 번 직렬화
+ * - 캐시된 기간은 이후 요청마다 직렬화 / 압축 없이 바이트를 그대로 보냄
+ * - CBOR / Smile 도 MVC ObjectMapper의 설정(모듈, 날짜 형식 등)을 그대로 씀
+ */
+@Component
+public class ResponseEncoder {
+
+    // 이보다 작은 본문은 gzip 헤더 비용이 더 커서 압축하지 않음
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    // 캐시를 채울 때 한 번만 압축하므로 최대 압축률 사용
+    private static final int GZIP_LEVEL = Deflater.BEST_COMPRESSION;
+
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+
+    public ResponseEncoder(ObjectMapper objectMapper) {
+        mappers.put(ResponseFormat.JSON, objectMapper);
+        mappers.put(ResponseFormat.CBOR, objectMapper.copyWith(new CBORFactory()));
+        mappers.put(ResponseFormat.SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    public EncodedBody encode(Object value, ResponseFormat format) {
+        try {
+            byte[] identity = mappers.get(format).writeValueAsBytes(value);
+            return new EncodedBody(identity, identity.length >= GZIP_MIN_BYTES ? gzip(identity) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(GZIP_LEVEL); }}) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.aida.backend.service;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+/**
+ * 대시보드 응답 형식 (Accept 헤더로 선택)
+ * - JSON: 기본 (브라우저)
+ * - CBOR / Smile: 내부 소비자용 바이너리 (필드 구조는 JSON과 같음)
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, "json"),
+    CBOR(MediaType.parseMediaType("application/cbor"), "cbor"),
+    SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ResponseFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Accept 헤더에서 q 값이 가장 높은 형식 (같으면 JSON 우선, 맞는 형식이 없으면 JSON)
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (!StringUtils.hasText(accept)) return JSON;
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() == 0) break;
+            for (ResponseFormat format : values()) {
+                if (mediaType.includes(format.mediaType)) return format;
+            }
+        }
+        return JSON;
+    }
+}
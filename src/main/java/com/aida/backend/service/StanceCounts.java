@@ -0,0 +1,35 @@
+package com.aida.backend.service;
+
+import com.aida.backend.domain.Stance;
+
+/**
+ * 스탠스별 건수 (Stance ordinal을 인덱스로 쓰는 int 배열)
+ * 문자열 키 Map 대신 사용해 집계 시 해싱/박싱이 없도록 한다.
+ */
+public final class StanceCounts {
+
+    private static final Stance[] STANCES = Stance.values();
+
+    private final int[] counts = new int[STANCES.length];
+
+    public void add(Stance stance, int count) {
+        counts[stance.ordinal()] += count;
+    }
+
+    public void addAll(StanceCounts other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public int get(Stance stance) {
+        return counts[stance.ordinal()];
+    }
+
+    public boolean isEmpty() {
+        for (int count : counts) {
+            if (count != 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+package db.migration;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * V3: 원본(news, social)을 일자(day) 기준 월 RANGE 파티션으로 전환
+ * - 대시보드 조회는 모두 기간 조건이므로 day 조건으로 파티션 프루닝
+ * - 파티션 테이블은 FK를 가질 수 없고, 파티션 키는 PK에 포함되어야 함
+ *   → news/social 관련 FK 제거 (ddl-auto=update로 만든 DB는 FK 이름이 달라 information_schema에서 찾음)
+ *   → PK (id) → (id, day), day(= date)는 NOT NULL
+ * - 데이터가 있는 첫 달부터 이번 달 + MONTHS_AHEAD 까지 만들고 나머지는 pmax
+ *   (이후 달은 PartitionMaintenanceService가 pmax를 나눠 미리 만듦)
+ */
+public class V3__Partition_raw_tables_by_month extends BaseJavaMigration {
+
+    private static final List<String> TABLES = List.of("news", "social");
+    private static final int MONTHS_AHEAD = 3;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        // 1. 날짜 없는 행은 파티션 키가 없으므로 먼저 정리가 필요
+        for (String table : TABLES) {
+            Long nullDates = jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE date IS NULL", Long.class);
+            if (nullDates != null && nullDates > 0) {
+                throw new IllegalStateException(
+                    table + ".date 가 비어 있는 행이 " + nullDates + "건 있어 월 파티션으로 전환할 수 없습니다 (정리 후 다시 실행)");
+            }
+        }
+
+        // 2. news/social 에 걸려 있거나 이 둘을 참조하는 FK 제거
+        List<Map<String, Object>> foreignKeys = jdbc.queryForList(
+            "SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+            "WHERE CONSTRAINT_SCHEMA = DATABASE() " +
+            "AND (TABLE_NAME IN ('news', 'social') OR REFERENCED_TABLE_NAME IN ('news', 'social'))");
+        for (Map<String, Object> fk : foreignKeys) {
+            jdbc.execute("ALTER TABLE " + fk.get("TABLE_NAME") + " DROP FOREIGN KEY `" + fk.get("CONSTRAINT_NAME") + "`");
+        }
+
+        // 3. PK에 파티션 키 포함 후 월 파티션으로 전환
+        YearMonth lastMonth = YearMonth.now().plusMonths(MONTHS_AHEAD);
+
+        for (String table : TABLES) {
+            jdbc.execute("ALTER TABLE " + table + " " +
+                "MODIFY date DATETIME(6) NOT NULL, " +
+                "MODIFY day DATE GENERATED ALWAYS AS (DATE(date)) STORED NOT NULL, " +
+                "DROP PRIMARY KEY, ADD PRIMARY KEY (id, day)");
+
+            LocalDate firstDay = jdbc.queryForObject("SELECT MIN(day) FROM " + table, LocalDate.class);
+            YearMonth month = firstDay != null ? YearMonth.from(firstDay) : YearMonth.now();
+
+            StringBuilder partitions = new StringBuilder();
+            for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                partitions.append(String.format("PARTITION p%d%02d VALUES LESS THAN ('%s'), ",
+                    month.getYear(), month.getMonthValue(), month.plusMonths(1).atDay(1)));
+            }
+            partitions.append("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+
+            jdbc.execute("ALTER TABLE " + table + " PARTITION BY RANGE COLUMNS(day) (" + partitions + ")");
+        }
+    }
+}
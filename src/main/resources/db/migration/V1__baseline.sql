@@ -0,0 +1,119 @@
+-- ============================================================
+-- V1: 기준 스키마 (ddl-auto=update 시절 엔티티가 만들던 테이블 그대로)
+-- 기존 DB에서는 이미 있는 테이블이므로 IF NOT EXISTS로 건너뜀
+-- (이후 추가된 컬럼, 집계 테이블, 인덱스는 V2부터 ALTER / CREATE 로 반영)
+-- ============================================================
+
+-- === 분류 ===
+CREATE TABLE IF NOT EXISTS category1 (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category1_code UNIQUE (code),
+    CONSTRAINT uk_category1_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category2 (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    category1_id BIGINT,
+    code         VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category2_code UNIQUE (code),
+    CONSTRAINT uk_category2_name UNIQUE (name),
+    CONSTRAINT fk_category2_category1 FOREIGN KEY (category1_id) REFERENCES category1 (id)
+) ENGINE = InnoDB;
+
+-- === 법령 ===
+CREATE TABLE IF NOT EXISTS law (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    law_name VARCHAR(500) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_law_law_name UNIQUE (law_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS law_part (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    part_number VARCHAR(50),
+    part_title  VARCHAR(200),
+    law_id      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_law_part_law FOREIGN KEY (law_id) REFERENCES law (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS law_section (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    section_number VARCHAR(50),
+    section_title  VARCHAR(200),
+    part_id        BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_law_section_law_part FOREIGN KEY (part_id) REFERENCES law_part (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS law_article (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    article_number  VARCHAR(50),
+    article_title   VARCHAR(500),
+    article_content TEXT,
+    part_id         BIGINT       NOT NULL,
+    section_id      BIGINT,
+    subid           VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_law_article_law_part FOREIGN KEY (part_id) REFERENCES law_part (id),
+    CONSTRAINT fk_law_article_law_section FOREIGN KEY (section_id) REFERENCES law_section (id)
+) ENGINE = InnoDB;
+
+-- === 원본 (크롤러 적재) ===
+-- news.subid(숫자)는 category3.code(문자열)와 타입이 달라 FK 없음
+CREATE TABLE IF NOT EXISTS news (
+    id       BIGINT        NOT NULL AUTO_INCREMENT,
+    subid    BIGINT,
+    category VARCHAR(255),
+    date     DATETIME(6),
+    title    VARCHAR(500),
+    content  TEXT,
+    url      VARCHAR(1000),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS category3 (
+    id                     BIGINT       NOT NULL AUTO_INCREMENT,
+    category2_id           BIGINT,
+    code                   VARCHAR(255) NOT NULL,
+    name                   VARCHAR(255) NOT NULL,
+    representative_news_id BIGINT,
+    law_article_id         BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_category3_code UNIQUE (code),
+    CONSTRAINT uk_category3_name UNIQUE (name),
+    CONSTRAINT uk_category3_representative_news UNIQUE (representative_news_id),
+    CONSTRAINT fk_category3_category2 FOREIGN KEY (category2_id) REFERENCES category2 (id),
+    CONSTRAINT fk_category3_news FOREIGN KEY (representative_news_id) REFERENCES news (id),
+    CONSTRAINT fk_category3_law_article FOREIGN KEY (law_article_id) REFERENCES law_article (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS social (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    category3_id BIGINT,
+    date         DATETIME(6),
+    title        TEXT,
+    content      TEXT,
+    url          VARCHAR(1000),
+    source       VARCHAR(500),
+    sentiment    VARCHAR(500),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_social_category3 FOREIGN KEY (category3_id) REFERENCES category3 (id)
+) ENGINE = InnoDB;
+
+-- law_article.subid → category3.code (ddl-auto가 만들던 FK, 두 테이블이 서로 참조하므로 category3 이후에 추가)
+-- 기존 DB에는 이미 (다른 이름으로) 있으므로 없을 때만 추가
+SET @subid_fk := (SELECT COUNT(*) FROM information_schema.KEY_COLUMN_USAGE
+                  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'law_article'
+                    AND COLUMN_NAME = 'subid' AND REFERENCED_TABLE_NAME = 'category3');
+SET @sql := IF(@subid_fk = 0,
+    'ALTER TABLE law_article ADD CONSTRAINT fk_law_article_category3_code FOREIGN KEY (subid) REFERENCES category3 (code)',
+    'DO 0');
+PREPARE stmt FROM @sql;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
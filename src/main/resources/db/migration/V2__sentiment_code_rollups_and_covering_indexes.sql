@@ -0,0 +1,98 @@
+-- ============================================================
+-- V2: 기준 스키마(V1) 이후 추가된 컬럼과 테이블
+-- - social.sentiment_code, 일자(day) 저장 생성 컬럼
+-- - 일별 집계 / 집계 워터마크 / SCORE 지표 테이블
+-- - 대시보드 조회 형태별 커버링 인덱스
+-- DATE(date)로 묶던 집계를 day 컬럼으로 바꿔 인덱스를 탈 수 있게 함
+-- (STORED 생성 컬럼 추가는 테이블을 다시 쓰므로 적재가 적은 시간에 적용)
+-- ============================================================
+
+-- === 원본: sentiment 코드 + 일자 컬럼 ===
+-- sentiment_code는 비어 있는 채로 추가되고, 집계 워터마크가 0부터 시작하므로
+-- DailyAggregationService가 기존 행까지 id 구간별로 채우며 집계함
+ALTER TABLE news
+    ADD COLUMN day DATE GENERATED ALWAYS AS (DATE(date)) STORED AFTER date;
+
+ALTER TABLE social
+    ADD COLUMN sentiment_code TINYINT AFTER sentiment,
+    ADD COLUMN day DATE GENERATED ALWAYS AS (DATE(date)) STORED AFTER date;
+
+-- === 원본: 인덱스 ===
+-- 일자 구간 재집계 (일자, 대분류) / 소분류 코드별 기사
+CREATE INDEX idx_news_day_category ON news (day, category);
+CREATE INDEX idx_news_subid_day ON news (subid, day);
+
+-- 네트워크 그래프 대표 의견: 소분류 + sentiment 코드 + 일자 (id는 InnoDB 보조 인덱스에 포함되어 순번 계산까지 커버)
+CREATE INDEX idx_social_cat3_sentiment_day ON social (category3_id, sentiment_code, day);
+-- 일자 구간 재집계 (일자, 소분류, sentiment 코드)
+CREATE INDEX idx_social_day_cat3_sentiment ON social (day, category3_id, sentiment_code);
+
+-- === 일별 집계 (id 워터마크로 증분 갱신) ===
+CREATE TABLE IF NOT EXISTS aggregation_watermark (
+    name       VARCHAR(100) NOT NULL,
+    last_id    BIGINT       NOT NULL,
+    dirty_from DATE,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- 기간 조회가 테이블 행을 읽지 않도록 커버링 인덱스에 건수까지 포함
+CREATE TABLE IF NOT EXISTS news_daily_category_agg (
+    id       BIGINT       NOT NULL AUTO_INCREMENT,
+    day      DATE         NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    cnt      BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_news_daily_category_agg UNIQUE (day, category),
+    INDEX idx_news_daily_category_agg_cover (day, category, cnt)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS news_daily_law_agg (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    day            DATE   NOT NULL,
+    law_article_id BIGINT NOT NULL,
+    cnt            BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_news_daily_law_agg UNIQUE (day, law_article_id),
+    INDEX idx_news_daily_law_agg_cover (day, law_article_id, cnt)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS social_sentiment_daily_agg (
+    id             BIGINT  NOT NULL AUTO_INCREMENT,
+    day            DATE    NOT NULL,
+    category3_id   BIGINT  NOT NULL,
+    sentiment_code TINYINT NOT NULL,
+    cnt            BIGINT  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_social_sentiment_daily_agg UNIQUE (day, category3_id, sentiment_code),
+    INDEX idx_social_sentiment_daily_agg_cover (day, category3_id, sentiment_code, cnt)
+) ENGINE = InnoDB;
+
+-- === SCORE 지표 ===
+CREATE TABLE IF NOT EXISTS law_article_v_daily (
+    id             BIGINT NOT NULL AUTO_INCREMENT,
+    law_article_id BIGINT NOT NULL,
+    day            DATE   NOT NULL,
+    v_score        DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_law_article_v_daily UNIQUE (law_article_id, day)
+) ENGINE = InnoDB;
+
+-- 기간 합계(P, C, B) 조회용 커버링 인덱스
+CREATE TABLE IF NOT EXISTS law_article_daily_metrics (
+    id             BIGINT  NOT NULL AUTO_INCREMENT,
+    law_article_id BIGINT  NOT NULL,
+    day            DATE    NOT NULL,
+    v_score        DOUBLE  NOT NULL,
+    p_score        DOUBLE  NOT NULL,
+    g_score        DOUBLE  NOT NULL,
+    a_score        DOUBLE  NOT NULL,
+    c_score        DOUBLE  NOT NULL,
+    b_score        DOUBLE  NOT NULL,
+    positive_count INTEGER NOT NULL,
+    negative_count INTEGER NOT NULL,
+    neutral_count  INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_law_article_daily_metrics UNIQUE (law_article_id, day),
+    INDEX idx_law_article_daily_metrics_cover
+        (day, law_article_id, p_score, positive_count, negative_count, neutral_count)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- ============================================================
+-- V4: 읽기 복제본 지연 감시용 heartbeat
+-- 주 DB에 주기적으로 현재 시각(epoch ms)을 쓰고, 복제본에서 같은 값이 보이는지로 지연을 판단
+-- (복제본을 쓰지 않으면 비어 있는 채로 남음)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id          TINYINT NOT NULL,
+    beat_millis BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,222 @@
+package com.aida.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.config.ReadReplicaRoutingDataSource.Route;
+import com.aida.backend.service.DashboardDataChangedEvent;
+
+/**
+ * 주 DB / 복제본을 각각 내장 DB로 띄워 읽기 전용 트랜잭션 라우팅과 지연 시 주 DB 대체를 확인
+ * (복제는 주 DB heartbeat 를 복제본에 복사하는 것으로 흉내)
+ */
+class ReadReplicaRoutingTests {
+
+	private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+	private EmbeddedDatabase primaryDb;
+	private EmbeddedDatabase replicaDb;
+	private JdbcTemplate primaryJdbc;
+	private JdbcTemplate replicaJdbc;
+
+	private MutableClock clock;
+	private ReplicaLagMonitor monitor;
+
+	private JdbcTemplate routedJdbc;
+	private TransactionTemplate readOnlyTx;
+	private TransactionTemplate writeTx;
+
+	@BeforeEach
+	void setUp() {
+		primaryDb = embeddedDatabase("primary");
+		replicaDb = embeddedDatabase("replica");
+		primaryJdbc = new JdbcTemplate(primaryDb);
+		replicaJdbc = new JdbcTemplate(replicaDb);
+
+		clock = new MutableClock(Instant.parse("2025-10-01T00:00:00Z"));
+		monitor = new ReplicaLagMonitor(primaryJdbc, replicaJdbc, MAX_LAG, clock);
+
+		ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(monitor);
+		routing.setTargetDataSources(Map.of(Route.PRIMARY, primaryDb, Route.REPLICA, replicaDb));
+		routing.setDefaultTargetDataSource(primaryDb);
+		routing.afterPropertiesSet();
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+
+		routedJdbc = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+		writeTx = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		primaryDb.shutdown();
+		replicaDb.shutdown();
+	}
+
+	@Test
+	void readOnlyGoesToReplicaOnceCaughtUp() {
+		// 첫 점검 전에는 주 DB
+		assertEquals("primary", readOnlyMarker());
+
+		monitor.check();
+		replicate();
+		monitor.check();
+
+		assertEquals("replica", readOnlyMarker());
+	}
+
+	@Test
+	void writesAndNonTransactionalReadsGoToPrimary() {
+		catchUp();
+
+		writeTx.executeWithoutResult(status ->
+			routedJdbc.update("UPDATE marker SET name = 'primary-updated'"));
+
+		assertEquals("primary-updated", primaryJdbc.queryForObject("SELECT name FROM marker", String.class));
+		assertEquals("replica", replicaJdbc.queryForObject("SELECT name FROM marker", String.class));
+		assertEquals("primary-updated", routedJdbc.queryForObject("SELECT name FROM marker", String.class));
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		catchUp();
+
+		// 복제가 멈춘 채 점검이 이어지다 허용치를 넘김
+		for (int i = 0; i < 5; i++) {
+			tick();
+			assertEquals("replica", readOnlyMarker());
+		}
+		tick();
+		assertEquals("primary", readOnlyMarker());
+
+		// 다시 따라잡으면 복제본 사용
+		replicate();
+		tick();
+		assertEquals("replica", readOnlyMarker());
+	}
+
+	@Test
+	void smallLagKeepsReplica() {
+		catchUp();
+
+		tick();
+
+		assertEquals("replica", readOnlyMarker());
+	}
+
+	@Test
+	void dataChangeWaitsForReplicaToSeeIt() {
+		catchUp();
+
+		clock.advance(Duration.ofMillis(500));
+		monitor.onDataChanged(new DashboardDataChangedEvent(clock.today()));
+		assertEquals("primary", readOnlyMarker());
+
+		// 지연이 허용치 안이어도 변경 이후 heartbeat 가 보이기 전에는 주 DB
+		tick();
+		assertEquals("primary", readOnlyMarker());
+
+		replicate();
+		tick();
+		assertEquals("replica", readOnlyMarker());
+	}
+
+	@Test
+	void unreachableReplicaFallsBackToPrimary() {
+		catchUp();
+
+		replicaJdbc.execute("DROP TABLE replication_heartbeat");
+		monitor.check();
+
+		assertEquals("primary", readOnlyMarker());
+	}
+
+	private String readOnlyMarker() {
+		return readOnlyTx.execute(status -> routedJdbc.queryForObject("SELECT name FROM marker", String.class));
+	}
+
+	private void catchUp() {
+		monitor.check();
+		replicate();
+		monitor.check();
+		assertEquals("replica", readOnlyMarker());
+	}
+
+	// 점검 주기(2초)만큼 지나고 점검
+	private void tick() {
+		clock.advance(Duration.ofSeconds(2));
+		monitor.check();
+	}
+
+	// 주 DB heartbeat 를 복제본으로 복사
+	private void replicate() {
+		Long beat = primaryJdbc.queryForObject("SELECT beat_millis FROM replication_heartbeat WHERE id = 1", Long.class);
+		replicaJdbc.update("MERGE INTO replication_heartbeat (id, beat_millis) KEY (id) VALUES (1, ?)", beat);
+	}
+
+	private static EmbeddedDatabase embeddedDatabase(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.setName(name + "-" + System.nanoTime())
+			.build();
+		JdbcTemplate jdbc = new JdbcTemplate(database);
+		jdbc.execute("CREATE TABLE replication_heartbeat (id TINYINT NOT NULL PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+		jdbc.execute("CREATE TABLE marker (name VARCHAR(32) NOT NULL)");
+		jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+		return database;
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		LocalDate today() {
+			return now.atZone(ZoneOffset.UTC).toLocalDate();
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.aida.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.aida.backend.dto.KpiDailyData;
+import com.aida.backend.dto.KpiJson;
+import com.aida.backend.dto.KpiSummary;
+import com.aida.backend.service.DashboardCache;
+import com.aida.backend.service.DashboardDataChangedEvent;
+import com.aida.backend.service.DashboardService;
+import com.aida.backend.service.DataChangeStamps;
+import com.aida.backend.service.LiveDashboardService;
+import com.aida.backend.service.ResponseEncoder;
+import com.aida.backend.service.ScoreService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * 기간 응답의 형식 협상 (Accept / Accept-Encoding), Vary, 형식별 ETag 확인
+ * - JSON / gzip / CBOR / Smile 본문을 풀면 모두 같은 트리
+ * - 같은 형식의 ETag 로만 304, 데이터가 바뀌면 다시 200
+ */
+@WebMvcTest(DashboardController.class)
+@Import({ DashboardCache.class, DataChangeStamps.class, ResponseEncoder.class })
+class DashboardControllerTests {
+
+	private static final String KPI = "/api/dashboard/kpi-summary";
+	private static final LocalDate START = LocalDate.of(2025, 3, 1);
+	private static final LocalDate END = LocalDate.of(2025, 4, 30);
+	private static final String CBOR = "application/cbor";
+	private static final String SMILE = "application/x-jackson-smile";
+	private static final String VARY = "Accept, Accept-Encoding";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@MockitoBean
+	private DashboardService dashboardService;
+
+	@MockitoBean
+	private ScoreService scoreService;
+
+	@MockitoBean
+	private LiveDashboardService liveDashboardService;
+
+	@BeforeEach
+	void setUp() {
+		// 같은 컨텍스트를 쓰는 이전 테스트의 캐시를 비움
+		eventPublisher.publishEvent(new DashboardDataChangedEvent(LocalDate.MIN));
+
+		// 61일치 일별 데이터 → 압축 기준(1KB)을 넘는 본문
+		when(dashboardService.getKpiSummary(START, END)).thenReturn(kpi(START, END));
+		// 하루치 → 압축 기준 미만
+		when(dashboardService.getKpiSummary(END, END)).thenReturn(kpi(END, END));
+	}
+
+	@Test
+	void negotiatesFormatAndEncoding() throws Exception {
+		MockHttpServletResponse json = perform(kpi().header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"));
+		assertEquals("application/json", json.getContentType());
+		assertNull(json.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(VARY, json.getHeader(HttpHeaders.VARY));
+
+		MockHttpServletResponse cbor = perform(kpi().header(HttpHeaders.ACCEPT, CBOR));
+		assertEquals(CBOR, cbor.getContentType());
+		assertNull(cbor.getHeader(HttpHeaders.CONTENT_ENCODING));
+
+		MockHttpServletResponse smile = perform(kpi()
+			.header(HttpHeaders.ACCEPT, "application/json;q=0.5, " + SMILE + ";q=0.9")
+			.header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip"));
+		assertEquals(SMILE, smile.getContentType());
+		assertEquals("gzip", smile.getHeader(HttpHeaders.CONTENT_ENCODING));
+		assertEquals(VARY, smile.getHeader(HttpHeaders.VARY));
+
+		// 모르는 형식만 있으면 JSON
+		assertEquals("application/json", perform(kpi().header(HttpHeaders.ACCEPT, "text/csv")).getContentType());
+
+		// 작은 본문은 gzip 을 받아도 압축하지 않음
+		MockHttpServletResponse small = perform(get(KPI).param("start", END.toString()).param("end", END.toString())
+			.header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+		assertNull(small.getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void everyRepresentationDecodesToTheSameTree() throws Exception {
+		JsonNode expected = objectMapper.readTree(perform(kpi()).getContentAsByteArray());
+		assertEquals(61, expected.path("전체").path("dailyData").size());
+
+		assertEquals(expected, objectMapper.readTree(gunzip(perform(kpi().header(HttpHeaders.ACCEPT_ENCODING, "gzip")))));
+
+		ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+		assertEquals(expected, cbor.readTree(perform(kpi().header(HttpHeaders.ACCEPT, CBOR)).getContentAsByteArray()));
+		assertEquals(expected, cbor.readTree(gunzip(perform(kpi()
+			.header(HttpHeaders.ACCEPT, CBOR).header(HttpHeaders.ACCEPT_ENCODING, "gzip")))));
+
+		ObjectMapper smile = new ObjectMapper(new SmileFactory());
+		assertEquals(expected, smile.readTree(perform(kpi().header(HttpHeaders.ACCEPT, SMILE)).getContentAsByteArray()));
+		assertEquals(expected, smile.readTree(gunzip(perform(kpi()
+			.header(HttpHeaders.ACCEPT, SMILE).header(HttpHeaders.ACCEPT_ENCODING, "gzip")))));
+
+		// 형식마다 한 번 직렬화 (gzip 본문은 같은 항목에 함께 보관)
+		verify(dashboardService, times(3)).getKpiSummary(START, END);
+	}
+
+	@Test
+	void etagMatchesOnlyItsOwnRepresentation() throws Exception {
+		List<String[]> representations = List.of(
+			new String[] { "application/json", "identity" },
+			new String[] { "application/json", "gzip" },
+			new String[] { CBOR, "identity" },
+			new String[] { CBOR, "gzip" },
+			new String[] { SMILE, "identity" },
+			new String[] { SMILE, "gzip" });
+
+		List<String> etags = new ArrayList<>();
+		for (String[] representation : representations) {
+			etags.add(perform(kpi(representation)).getHeader(HttpHeaders.ETAG));
+		}
+		assertEquals(representations.size(), etags.stream().distinct().count(), etags.toString());
+
+		for (int i = 0; i < representations.size(); i++) {
+			MockHttpServletResponse same = perform(kpi(representations.get(i)).header(HttpHeaders.IF_NONE_MATCH, etags.get(i)));
+			assertEquals(304, same.getStatus(), etags.get(i));
+			// 304 에도 Vary 가 있어야 공유 캐시가 다른 표현과 섞지 않음
+			assertEquals(VARY, same.getHeader(HttpHeaders.VARY));
+
+			String other = etags.get((i + 1) % etags.size());
+			assertEquals(200, perform(kpi(representations.get(i)).header(HttpHeaders.IF_NONE_MATCH, other)).getStatus(), other);
+		}
+	}
+
+	@Test
+	void dataChangeInvalidatesTheEtag() throws Exception {
+		String etag = perform(kpi().header(HttpHeaders.ACCEPT, CBOR)).getHeader(HttpHeaders.ETAG);
+
+		// 종료일 이후 변경은 이 기간과 무관
+		eventPublisher.publishEvent(new DashboardDataChangedEvent(END.plusDays(1)));
+		assertEquals(304, perform(kpi().header(HttpHeaders.ACCEPT, CBOR).header(HttpHeaders.IF_NONE_MATCH, etag)).getStatus());
+
+		eventPublisher.publishEvent(new DashboardDataChangedEvent(END));
+		MockHttpServletResponse changed = perform(kpi().header(HttpHeaders.ACCEPT, CBOR).header(HttpHeaders.IF_NONE_MATCH, etag));
+		assertEquals(200, changed.getStatus());
+		assertNotEquals(etag, changed.getHeader(HttpHeaders.ETAG));
+		verify(dashboardService, times(2)).getKpiSummary(START, END);
+	}
+
+	@Test
+	void invalidRangeIsRejected() throws Exception {
+		// 시작일이 종료일보다 뒤
+		assertEquals(400, perform(get(KPI).param("start", END.toString()).param("end", START.toString())).getStatus());
+		assertEquals(400, perform(get("/api/dashboard/bundle").param("start", END.plusDays(1).toString()).param("end", END.toString())).getStatus());
+		assertEquals(400, perform(get("/api/dashboard/live").param("start", END.toString()).param("end", START.toString())).getStatus());
+		// 최대 일수(기본 3660일)를 넘는 기간
+		assertEquals(400, perform(get(KPI).param("start", END.minusDays(3660).toString()).param("end", END.toString())).getStatus());
+		assertEquals(400, perform(get(KPI).param("stream", "true").param("start", END.minusYears(20).toString()).param("end", END.toString())).getStatus());
+
+		verifyNoInteractions(dashboardService);
+		verify(liveDashboardService, never()).subscribe(any(), any());
+	}
+
+	private MockHttpServletRequestBuilder kpi() {
+		return get(KPI).param("start", START.toString()).param("end", END.toString());
+	}
+
+	private MockHttpServletRequestBuilder kpi(String[] representation) {
+		return kpi().header(HttpHeaders.ACCEPT, representation[0]).header(HttpHeaders.ACCEPT_ENCODING, representation[1]);
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private static byte[] gunzip(MockHttpServletResponse response) throws IOException {
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static Map<String, KpiJson> kpi(LocalDate start, LocalDate end) {
+		List<KpiDailyData> daily = new ArrayList<>();
+		for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+			daily.add(new KpiDailyData(day.toString(), day.getDayOfMonth() * 3, day.getDayOfMonth() * 7));
+		}
+		return Map.of("전체", new KpiJson(new KpiSummary(1234L, 5678, 12.5, -3.25), daily));
+	}
+}
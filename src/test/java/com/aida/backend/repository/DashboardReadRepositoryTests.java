@@ -0,0 +1,104 @@
+package com.aida.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.aida.backend.config.AidaMetrics;
+import com.aida.backend.dto.LawArticleLatestScoreDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 내장 DB(MySQL 모드)에 지표 행을 넣고 기준일 이하 마지막 행 조회를 확인
+ */
+class DashboardReadRepositoryTests {
+
+	private static final LocalDate END = LocalDate.of(2025, 3, 10);
+
+	private JdbcTemplate jdbc;
+	private DashboardReadRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:read-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY");
+
+		jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("SET DB_CLOSE_DELAY -1");
+		jdbc.execute("CREATE TABLE law_article_daily_metrics (" +
+			"id BIGINT AUTO_INCREMENT PRIMARY KEY, law_article_id BIGINT NOT NULL, day DATE NOT NULL, " +
+			"v_score DOUBLE NOT NULL, p_score DOUBLE NOT NULL, g_score DOUBLE NOT NULL, a_score DOUBLE NOT NULL, " +
+			"c_score DOUBLE NOT NULL, b_score DOUBLE NOT NULL, " +
+			"positive_count INTEGER NOT NULL, negative_count INTEGER NOT NULL, neutral_count INTEGER NOT NULL, " +
+			"CONSTRAINT uk_law_article_daily_metrics UNIQUE (law_article_id, day))");
+
+		repository = new DashboardReadRepository(dataSource, new AidaMetrics(new SimpleMeterRegistry()), 100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbc.execute("SHUTDOWN");
+	}
+
+	@Test
+	void endDateRowWins() {
+		insert(1, END.minusDays(3), 9.0, 0.5, 0.1);
+		insert(1, END, 4.0, 0.2, 0.3);
+
+		assertEquals(List.of(new LawArticleLatestScoreDto(1, END, 4.0, 0.2, 0.3)), latest(END));
+	}
+
+	@Test
+	void olderRowIsUsedWhenEndDateRowIsMissing() {
+		insert(1, END.minusDays(5), 2.0, 0.0, 0.0);
+		insert(1, END.minusDays(2), 1.5, 0.0, 0.0);
+		// 기준일 이후 행은 보지 않음
+		insert(1, END.plusDays(1), 7.0, 1.0, 1.0);
+
+		assertEquals(List.of(new LawArticleLatestScoreDto(1, END.minusDays(2), 1.5, 0.0, 0.0)), latest(END));
+	}
+
+	@Test
+	void olderRowWithoutVHistoryIsDropped() {
+		// 댓글만 있던 날의 행 (V 이력 없음): 기준일에 댓글이 없으면 기준일 행도 없었을 법 조항
+		insert(1, END.minusDays(1), 0.0, 0.0, 0.0);
+		// 기준일 당일 행은 V가 0이어도 그대로
+		insert(2, END, 0.0, 0.0, 0.0);
+
+		assertEquals(List.of(new LawArticleLatestScoreDto(2, END, 0.0, 0.0, 0.0)), latest(END));
+	}
+
+	@Test
+	void eachArticleGetsItsOwnLatestRow() {
+		insert(1, END.minusDays(10), 3.0, 0.0, 0.0);
+		insert(2, END.minusDays(1), 5.0, 0.0, 0.0);
+		insert(2, END.minusDays(4), 8.0, 0.0, 0.0);
+		insert(3, END, 1.0, 1.0, 0.0);
+
+		assertEquals(List.of(
+			new LawArticleLatestScoreDto(1, END.minusDays(10), 3.0, 0.0, 0.0),
+			new LawArticleLatestScoreDto(2, END.minusDays(1), 5.0, 0.0, 0.0),
+			new LawArticleLatestScoreDto(3, END, 1.0, 1.0, 0.0)), latest(END));
+	}
+
+	private List<LawArticleLatestScoreDto> latest(LocalDate day) {
+		return repository.findLatestLawArticleDayScores(day).stream()
+			.sorted(Comparator.comparingLong(LawArticleLatestScoreDto::lawArticleId))
+			.toList();
+	}
+
+	private void insert(long lawArticleId, LocalDate day, double v, double g, double a) {
+		jdbc.update("INSERT INTO law_article_daily_metrics (law_article_id, day, v_score, p_score, g_score, a_score, " +
+			"c_score, b_score, positive_count, negative_count, neutral_count) VALUES (?, ?, ?, 0, ?, ?, 0, 0, 0, 0, 0)",
+			lawArticleId, day, v, g, a);
+	}
+}
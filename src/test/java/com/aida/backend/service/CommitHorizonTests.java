@@ -0,0 +1,102 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 관측한 MAX(id) 는 lag 이 지난 뒤에야 안전한 id 가 되는지 확인
+ */
+class CommitHorizonTests {
+
+	private static final Duration LAG = Duration.ofSeconds(30);
+
+	private MutableClock clock;
+	private CommitHorizon horizon;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2025-10-01T00:00:00Z"));
+		horizon = new CommitHorizon(LAG, clock);
+	}
+
+	@Test
+	void freshObservationIsNotSafeYet() {
+		assertEquals(0, horizon.advance(100L));
+
+		clock.advance(Duration.ofSeconds(29));
+		assertEquals(0, horizon.advance(120L));
+
+		clock.advance(Duration.ofSeconds(1));
+		assertEquals(100, horizon.advance(130L));
+	}
+
+	@Test
+	void safeIdIsLatestSettledObservation() {
+		horizon.advance(100L);
+		clock.advance(Duration.ofSeconds(10));
+		horizon.advance(150L);
+		clock.advance(Duration.ofSeconds(10));
+		horizon.advance(200L);
+
+		clock.advance(Duration.ofSeconds(20));
+		assertEquals(150, horizon.advance(null));
+
+		clock.advance(Duration.ofMinutes(1));
+		assertEquals(200, horizon.advance(null));
+	}
+
+	@Test
+	void safeIdNeverGoesBack() {
+		horizon.advance(100L);
+		clock.advance(LAG);
+		assertEquals(100, horizon.advance(null));
+
+		// 압축 등으로 MAX(id) 가 줄어 보여도 워터마크는 되돌리지 않음
+		horizon.advance(40L);
+		clock.advance(LAG);
+		assertEquals(100, horizon.advance(null));
+	}
+
+	@Test
+	void zeroLagIsImmediate() {
+		CommitHorizon immediate = new CommitHorizon(Duration.ZERO, clock);
+
+		assertEquals(100, immediate.advance(100L));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.entity.Sentiment;
+import com.aida.backend.repository.DashboardReadRepository;
+
+/**
+ * 내장 DB(H2)에서 증분 집계와 파생 테이블 재계산 결과가 원본 전체 스캔(기존 방식)과 같은지 확인
+ * - 일별 집계: 원본 GROUP BY 와 같음 (늦게 들어온 과거 날짜 행을 포함해 두 번 나눠 접어도 정확히 한 번씩 셈)
+ * - V, G, A: 종료일 이전 전체 뉴스의 감쇠 합 / 주차별 합으로 구한 값과 같음
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:aggregation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.flyway.enabled=false",
+	"aida.aggregation.initial-delay-ms=3600000",
+	"aida.aggregation.commit-lag=PT0S"
+})
+class DailyAggregationServiceTests {
+
+	private static final double EPS = 1e-9;
+	private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 0, 0);
+	private static final int DAYS = 90;
+	private static final int LAW_ARTICLES = 6;
+	private static final int CATEGORY3 = 10;
+
+	private static final String[] LABELS = {
+		"찬성_개정강화", "찬성_폐지완화", "찬성_현상유지", "반대_현상유지", "반대_폐지완화", "반대_개정강화", "중립", "기타", null
+	};
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private DailyAggregationService dailyAggregationService;
+
+	@Autowired
+	private HierarchyIndex hierarchyIndex;
+
+	@Autowired
+	private DashboardReadRepository dashboardReadRepository;
+
+	private final Random random = new Random(11);
+
+	@Test
+	void incrementalFoldAndRebuildMatchFullScan() {
+		seedHierarchy();
+		hierarchyIndex.refresh();
+
+		insertRaw(300, 600, 0, DAYS);
+		dailyAggregationService.refresh();
+		assertRollupsMatchFullScan();
+
+		// 늦게 들어온 과거 날짜 행 + 새 날짜 행을 한 번 더 접음
+		insertRaw(100, 200, 10, DAYS + 20);
+		dailyAggregationService.refresh();
+		assertRollupsMatchFullScan();
+
+		LocalDate first = START.toLocalDate();
+		for (LocalDate day = first; day.isBefore(first.plusDays(DAYS + 40)); day = day.plusDays(1)) {
+			assertScoresMatchFullScan(day);
+		}
+	}
+
+	private void assertRollupsMatchFullScan() {
+		Map<List<Object>, Long> socialExpected = new HashMap<>();
+		for (Map<String, Object> row : jdbc.queryForList(
+				"SELECT CAST(date AS DATE) AS d, category3_id, sentiment, COUNT(*) AS c FROM social " +
+				"GROUP BY CAST(date AS DATE), category3_id, sentiment")) {
+			byte code = Sentiment.fromLabel((String) row.get("sentiment")).getCode();
+			socialExpected.merge(List.of(day(row.get("d")), ((Number) row.get("category3_id")).longValue(), (long) code),
+				((Number) row.get("c")).longValue(), Long::sum);
+		}
+		assertEquals(socialExpected, counts(
+			"SELECT day AS d, category3_id, sentiment_code, cnt AS c FROM social_sentiment_daily_agg", "category3_id", "sentiment_code"));
+
+		assertEquals(
+			counts("SELECT CAST(date AS DATE) AS d, COALESCE(category, '') AS k, COUNT(*) AS c FROM news " +
+				"GROUP BY CAST(date AS DATE), COALESCE(category, '')", "k"),
+			counts("SELECT day AS d, category AS k, cnt AS c FROM news_daily_category_agg", "k"));
+
+		// 기존 방식: news.subid → 소분류 code → 법 조항
+		assertEquals(
+			counts("SELECT CAST(n.date AS DATE) AS d, c3.law_article_id AS k, COUNT(*) AS c FROM news n " +
+				"JOIN category3 c3 ON c3.code = CAST(n.subid AS VARCHAR) WHERE c3.law_article_id IS NOT NULL " +
+				"GROUP BY CAST(n.date AS DATE), c3.law_article_id", "k"),
+			counts("SELECT day AS d, law_article_id AS k, cnt AS c FROM news_daily_law_agg", "k"));
+	}
+
+	/**
+	 * 읽기 경로(마지막 행 + 감쇠)로 구한 종료일의 V, G, A 가 전체 뉴스 스캔과 같은지
+	 */
+	private void assertScoresMatchFullScan(LocalDate endDate) {
+		List<LawArticleDayScoreDto> scores = LawMetricsService.scoresAt(endDate,
+			dashboardReadRepository.findLatestLawArticleDayScores(endDate),
+			dashboardReadRepository.findDailyLawNewsCounts(endDate.minusDays(LawMetricsService.GROWTH_LOOKBACK_DAYS), endDate));
+
+		Map<Long, Map<LocalDate, Long>> newsByArticle = new HashMap<>();
+		for (Map<String, Object> row : jdbc.queryForList(
+				"SELECT CAST(n.date AS DATE) AS d, c3.law_article_id AS k, COUNT(*) AS c FROM news n " +
+				"JOIN category3 c3 ON c3.code = CAST(n.subid AS VARCHAR) " +
+				"WHERE c3.law_article_id IS NOT NULL AND CAST(n.date AS DATE) <= ? " +
+				"GROUP BY CAST(n.date AS DATE), c3.law_article_id", endDate)) {
+			newsByArticle.computeIfAbsent(((Number) row.get("k")).longValue(), k -> new HashMap<>())
+				.put(day(row.get("d")), ((Number) row.get("c")).longValue());
+		}
+
+		for (LawArticleDayScoreDto score : scores) {
+			Map<LocalDate, Long> dailyNews = newsByArticle.remove(score.lawArticleId());
+			double[] expected = dailyNews != null ? fullScan(dailyNews, endDate) : new double[3];
+			String message = endDate + " law_article " + score.lawArticleId();
+			assertEquals(expected[0], score.vScore(), EPS, message);
+			assertEquals(expected[1], score.gScore(), EPS, message);
+			assertEquals(expected[2], score.aScore(), EPS, message);
+		}
+		// 종료일 이전 뉴스가 있는 법 조항은 모두 결과에 있어야 함
+		assertTrue(newsByArticle.isEmpty(), endDate + " missing " + newsByArticle.keySet());
+	}
+
+	/**
+	 * 기존 ScoreService: 일별 V = 건수 × exp(-ln2 · 경과일 / 7), V = 합, G / A = 주차별 합의 성장률 / 가속도
+	 * @return [V, G, A]
+	 */
+	private static double[] fullScan(Map<LocalDate, Long> dailyNews, LocalDate endDate) {
+		double v = 0, week0 = 0, week1 = 0, week2 = 0;
+		for (Map.Entry<LocalDate, Long> entry : dailyNews.entrySet()) {
+			double dailyV = entry.getValue() * Math.exp(-Math.log(2) * ChronoUnit.DAYS.between(entry.getKey(), endDate) / 7.0);
+			v += dailyV;
+
+			long weeksAgo = ChronoUnit.WEEKS.between(entry.getKey(), endDate);
+			if (weeksAgo == 0) week0 += dailyV;
+			else if (weeksAgo == 1) week1 += dailyV;
+			else if (weeksAgo == 2) week2 += dailyV;
+		}
+		double g = week1 > 0 ? (week0 - week1) / week1 : week0;
+		double gPrevious = week2 > 0 ? (week1 - week2) / week2 : week1;
+		return new double[] { v, g, g - gPrevious };
+	}
+
+	private void seedHierarchy() {
+		jdbc.update("INSERT INTO category1 (id, code, name) VALUES (1, 'C1', '개인정보보호법'), (2, 'C2', '저작권법')");
+		jdbc.update("INSERT INTO category2 (id, category1_id, code, name) VALUES (1, 1, 'C21', '수집'), (2, 2, 'C22', '이용')");
+		jdbc.update("INSERT INTO law (id, law_name) VALUES (1, '개인정보 보호법')");
+		jdbc.update("INSERT INTO law_part (id, part_number, part_title, law_id) VALUES (1, '제1장', '총칙', 1)");
+		for (int i = 1; i <= LAW_ARTICLES; i++) {
+			jdbc.update("INSERT INTO law_article (id, article_number, article_title, article_content, part_id) VALUES (?, ?, ?, ?, 1)",
+				i, "제" + i + "조", "(목적" + i + ")", "내용");
+		}
+		// 마지막 두 소분류는 법 조항과 연결되지 않음
+		for (int i = 1; i <= CATEGORY3; i++) {
+			jdbc.update("INSERT INTO category3 (id, category2_id, code, name, law_article_id) VALUES (?, ?, ?, ?, ?)",
+				i, i % 2 + 1, String.valueOf(100000 + i), "소분류" + i, i <= CATEGORY3 - 2 ? (i - 1) % LAW_ARTICLES + 1 : null);
+		}
+	}
+
+	/**
+	 * 원본 행을 [fromDay, toDay) 사이 임의 시각으로 넣음 (day 는 MySQL 에서 생성 컬럼이라 H2 에서는 직접 채움)
+	 */
+	private void insertRaw(int newsCount, int socialCount, int fromDay, int toDay) {
+		for (int i = 0; i < newsCount; i++) {
+			LocalDateTime date = randomTime(fromDay, toDay);
+			// 가끔 소분류 / 대분류 없음
+			Long subid = random.nextInt(20) == 0 ? null : 100000L + random.nextInt(CATEGORY3) + 1;
+			String category = random.nextInt(10) == 0 ? null : (random.nextBoolean() ? "개인정보보호법" : "저작권법");
+			jdbc.update("INSERT INTO news (subid, category, date, day, title) VALUES (?, ?, ?, ?, 't')",
+				subid, category, date, date.toLocalDate());
+		}
+		for (int i = 0; i < socialCount; i++) {
+			LocalDateTime date = randomTime(fromDay, toDay);
+			jdbc.update("INSERT INTO social (category3_id, date, day, content, sentiment) VALUES (?, ?, ?, ?, ?)",
+				random.nextInt(CATEGORY3) + 1, date, date.toLocalDate(), "의견" + i, LABELS[random.nextInt(LABELS.length)]);
+		}
+	}
+
+	private LocalDateTime randomTime(int fromDay, int toDay) {
+		return START.plusDays(fromDay + random.nextInt(toDay - fromDay)).plusMinutes(random.nextInt(24 * 60));
+	}
+
+	private Map<List<Object>, Long> counts(String sql, String... keys) {
+		Map<List<Object>, Long> result = new HashMap<>();
+		for (Map<String, Object> row : jdbc.queryForList(sql)) {
+			List<Object> key = new ArrayList<>();
+			key.add(day(row.get("d")));
+			for (String column : keys) {
+				Object value = row.get(column);
+				key.add(value instanceof Number number ? number.longValue() : value);
+			}
+			result.merge(List.copyOf(key), ((Number) row.get("c")).longValue(), Long::sum);
+		}
+		return result;
+	}
+
+	private static LocalDate day(Object value) {
+		return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+	}
+}
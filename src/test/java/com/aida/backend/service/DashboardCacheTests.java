@@ -0,0 +1,138 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 키 동시 요청은 loader 를 한 번만 실행하고, 조회 도중 무효화된 결과는 캐시에 남지 않는지 확인
+ */
+class DashboardCacheTests {
+
+	private static final LocalDate START = LocalDate.of(2025, 1, 1);
+	private static final LocalDate END = LocalDate.of(2025, 1, 31);
+	private static final long TIMEOUT_SECONDS = 5;
+
+	private DashboardCache cache;
+	private ExecutorService executor;
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final CountDownLatch loading = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		cache = new DashboardCache(100, Duration.ofMinutes(5), Duration.ofHours(24));
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentRequestsShareOneLoad() throws Exception {
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> cache.get("top5", START, END, this::blockingLoad)));
+		loading.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		for (int i = 0; i < 9; i++) {
+			results.add(executor.submit(() -> cache.get("top5", START, END, this::blockingLoad)));
+		}
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertEquals("value-1", result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+		assertEquals("value-1", cache.get("top5", START, END, this::blockingLoad));
+	}
+
+	@Test
+	void invalidationDuringLoadDropsTheResult() throws Exception {
+		Future<String> first = executor.submit(() -> cache.get("top5", START, END, this::blockingLoad));
+		loading.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		cache.onDataChanged(new DashboardDataChangedEvent(END));
+		release.countDown();
+
+		// 이미 기다리던 요청은 결과를 받지만, 다음 요청은 새로 조회
+		assertEquals("value-1", first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals("value-2", cache.get("top5", START, END, this::blockingLoad));
+	}
+
+	@Test
+	void invalidationOutsideTheRangeKeepsTheResult() {
+		release.countDown();
+		cache.get("top5", START, END, this::blockingLoad);
+
+		cache.onDataChanged(new DashboardDataChangedEvent(END.plusDays(1)));
+
+		assertEquals("value-1", cache.get("top5", START, END, this::blockingLoad));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void asyncRequestsShareOneLoad() throws Exception {
+		CompletableFuture<String> pending = new CompletableFuture<>();
+		CompletableFuture<String> first = cache.getAsync("ranking", START, END, () -> {
+			loads.incrementAndGet();
+			return pending;
+		});
+		CompletableFuture<String> second = cache.getAsync("ranking", START, END, () -> {
+			loads.incrementAndGet();
+			return CompletableFuture.completedFuture("other");
+		});
+
+		pending.complete("ranked");
+		assertEquals("ranked", first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals("ranked", second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void failedLoadIsNotCached() {
+		assertThrows(IllegalStateException.class, () -> cache.get("top5", START, END, () -> {
+			throw new IllegalStateException("db down");
+		}));
+
+		release.countDown();
+		assertEquals("value-1", cache.get("top5", START, END, this::blockingLoad));
+	}
+
+	@Test
+	void loaderMayReadAnotherKey() {
+		release.countDown();
+		String encoded = cache.get("top5.json", START, END,
+			() -> "encoded " + cache.get("top5", START, END, this::blockingLoad));
+
+		assertEquals("encoded value-1", encoded);
+	}
+
+	private String blockingLoad() {
+		int load = loads.incrementAndGet();
+		loading.countDown();
+		try {
+			release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return "value-" + load;
+	}
+}
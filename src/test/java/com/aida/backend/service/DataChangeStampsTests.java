@@ -0,0 +1,117 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 변경 시작일이 기간의 종료일 이하일 때만 그 기간의 ETag / Last-Modified 가 바뀌는지 확인
+ */
+class DataChangeStampsTests {
+
+	private static final LocalDate START = LocalDate.of(2025, 3, 1);
+	private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+	private DataChangeStamps stamps;
+	private long started;
+
+	@BeforeEach
+	void setUp() {
+		stamps = new DataChangeStamps();
+		started = stamps.lastModified(END);
+	}
+
+	@Test
+	void changeBeforeTheRangeAffectsIt() {
+		changed(START.minusDays(10));
+
+		assertTrue(stamps.lastModified(END) > started);
+		assertTrue(stamps.lastModified(START) > started);
+		// 변경 시작일 이전에 끝나는 기간은 그대로
+		assertEquals(started, stamps.lastModified(START.minusDays(11)));
+	}
+
+	@Test
+	void changeInsideTheRangeAffectsIt() {
+		changed(START.plusDays(10));
+
+		assertTrue(stamps.lastModified(END) > started);
+		assertEquals(started, stamps.lastModified(START));
+	}
+
+	@Test
+	void changeOnTheEndDateAffectsIt() {
+		changed(END);
+
+		assertTrue(stamps.lastModified(END) > started);
+		assertEquals(started, stamps.lastModified(END.minusDays(1)));
+	}
+
+	@Test
+	void changeAfterTheEndDateDoesNotAffectIt() {
+		String etag = stamps.etag(END, "json");
+
+		changed(END.plusDays(1));
+
+		assertEquals(started, stamps.lastModified(END));
+		assertEquals(etag, stamps.etag(END, "json"));
+		assertTrue(stamps.lastModified(END.plusDays(1)) > started);
+	}
+
+	@Test
+	void hierarchyChangeAffectsEveryRange() {
+		changed(END.plusDays(5));
+		long later = stamps.lastModified(END.plusDays(5));
+
+		// 분류 / 법 조항 변경은 날짜와 무관하게 LocalDate.MIN 부터
+		changed(LocalDate.MIN);
+
+		for (LocalDate endDate : new LocalDate[] { LocalDate.of(2000, 1, 1), START, END, END.plusDays(5), LocalDate.MAX }) {
+			assertTrue(stamps.lastModified(endDate) > later, endDate.toString());
+		}
+		assertEquals(stamps.lastModified(START), stamps.lastModified(END.plusDays(5)));
+	}
+
+	@Test
+	void laterChangeFromAnEarlierDayOverridesLaterDays() {
+		changed(END);
+		long first = stamps.lastModified(END);
+
+		changed(START);
+
+		assertTrue(stamps.lastModified(END) > first);
+		assertEquals(stamps.lastModified(START), stamps.lastModified(END));
+	}
+
+	@Test
+	void changesInTheSameMillisecondGetDistinctStamps() {
+		// 시계가 한 번 움직이기 전에 여러 번 바뀌어도 ETag 는 매번 달라야 함
+		long previous = started;
+		String previousEtag = stamps.etag(END, "json");
+		for (int i = 0; i < 1000; i++) {
+			changed(START);
+			long stamp = stamps.lastModified(END);
+			assertTrue(stamp > previous, "change " + i);
+			String etag = stamps.etag(END, "json");
+			assertNotEquals(previousEtag, etag);
+			previous = stamp;
+			previousEtag = etag;
+		}
+	}
+
+	@Test
+	void etagDependsOnTheRepresentation() {
+		assertNotEquals(stamps.etag(END, "json"), stamps.etag(END, "json-gzip"));
+		assertNotEquals(stamps.etag(END, "json"), stamps.etag(END, "cbor"));
+		assertTrue(stamps.etag(END, "cbor-gzip").startsWith("\"") && stamps.etag(END, "cbor-gzip").endsWith("-cbor-gzip\""));
+	}
+
+	private void changed(LocalDate from) {
+		stamps.onDataChanged(new DashboardDataChangedEvent(from));
+	}
+}
@@ -0,0 +1,97 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.aida.backend.dto.DailyCategoryCountDto;
+import com.aida.backend.repository.DashboardReadRepository;
+
+/**
+ * 기간을 일별 조각으로 나눠 캐시에 없는 날짜만 조회하는지 확인
+ * - 시작일이 종료일보다 뒤면 조회 없이 빈 목록 (BETWEEN 과 같음)
+ * - 일부만 캐시에 있으면 비어 있는 연속 구간만 조회
+ */
+class DaySegmentCacheTests {
+
+	private static final LocalDate DAY1 = LocalDate.of(2025, 3, 1);
+	private static final LocalDate DAY2 = DAY1.plusDays(1);
+	private static final LocalDate DAY3 = DAY1.plusDays(2);
+	private static final LocalDate DAY4 = DAY1.plusDays(3);
+	private static final LocalDate DAY5 = DAY1.plusDays(4);
+
+	private DashboardReadRepository repository;
+	private DaySegmentCache cache;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(DashboardReadRepository.class);
+		HierarchyIndex hierarchyIndex = mock(HierarchyIndex.class);
+		when(hierarchyIndex.current()).thenReturn(HierarchySnapshot.EMPTY);
+		when(repository.findDailyNewsCounts(any(), any())).thenAnswer(invocation -> {
+			LocalDate start = invocation.getArgument(0);
+			LocalDate end = invocation.getArgument(1);
+			return start.datesUntil(end.plusDays(1))
+				.map(day -> new DailyCategoryCountDto(day, "개인정보보호법", day.getDayOfMonth()))
+				.toList();
+		});
+		cache = new DaySegmentCache(repository, hierarchyIndex, Runnable::run, 100);
+	}
+
+	@Test
+	void invertedRangeIsEmptyWithoutQuerying() {
+		// 하루 차이 (end + 1) 와 그보다 더 뒤집힌 기간 모두
+		assertTrue(cache.getRange(DAY2, DAY1).isEmpty());
+		assertTrue(cache.getRange(DAY5, DAY1).isEmpty());
+
+		verifyNoInteractions(repository);
+	}
+
+	@Test
+	void dayWithoutDataIsAnEmptySegment() {
+		when(repository.findDailyNewsCounts(DAY1, DAY1)).thenReturn(List.of());
+
+		List<DaySegment> segments = cache.getRange(DAY1, DAY1);
+
+		assertEquals(1, segments.size());
+		assertEquals(DAY1, segments.get(0).date());
+		assertTrue(segments.get(0).newsByCategory().isEmpty());
+		assertTrue(segments.get(0).socialByCategory().isEmpty());
+		// 빈 날도 캐시에 들어가 다시 조회하지 않음
+		cache.getRange(DAY1, DAY1);
+		verify(repository).findDailyNewsCounts(DAY1, DAY1);
+		verify(repository).forEachDailyCategory3SentimentCount(any(), any(), any());
+	}
+
+	@Test
+	void partiallyCachedRangeLoadsOnlyTheMissingRuns() {
+		cache.getRange(DAY2, DAY2);
+		cache.getRange(DAY4, DAY4);
+
+		List<DaySegment> segments = cache.getRange(DAY1, DAY5);
+
+		assertEquals(List.of(DAY1, DAY2, DAY3, DAY4, DAY5), segments.stream().map(DaySegment::date).toList());
+		for (DaySegment segment : segments) {
+			assertEquals(segment.date().getDayOfMonth(), segment.newsByCategory().get("개인정보보호법"));
+		}
+
+		// 비어 있던 구간 (1일), (3일), (5일) 만 각각 조회
+		verify(repository).findDailyNewsCounts(DAY1, DAY1);
+		verify(repository).findDailyNewsCounts(DAY3, DAY3);
+		verify(repository).findDailyNewsCounts(DAY5, DAY5);
+		verify(repository).forEachDailyCategory3SentimentCount(eq(DAY1), eq(DAY1), any());
+		verify(repository, times(5)).findDailyNewsCounts(any(), any());
+	}
+}
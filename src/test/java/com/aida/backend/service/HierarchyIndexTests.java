@@ -0,0 +1,95 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.aida.backend.repository.Category1Repository;
+import com.aida.backend.repository.Category3Repository;
+import com.aida.backend.repository.LawArticleRepository;
+
+/**
+ * 다시 읽는 중에 들어온 호출은 그 결과를 함께 쓰는지 확인
+ * (첫 사용 시 동시에 current() 를 불러도 한 번만 적재하고 무효화 이벤트를 내지 않음)
+ */
+class HierarchyIndexTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private Category1Repository category1Repository;
+	private ApplicationEventPublisher eventPublisher;
+	private HierarchyIndex hierarchyIndex;
+
+	private final CountDownLatch loading = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		category1Repository = mock(Category1Repository.class);
+		Category3Repository category3Repository = mock(Category3Repository.class);
+		LawArticleRepository lawArticleRepository = mock(LawArticleRepository.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+
+		// 첫 적재는 release 까지 멈춤
+		when(category1Repository.findAll()).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await();
+			return List.of();
+		});
+		when(category3Repository.findHierarchyRows()).thenReturn(List.of());
+		when(lawArticleRepository.findHierarchyRows()).thenReturn(List.of());
+
+		hierarchyIndex = new HierarchyIndex(category1Repository, category3Repository, lawArticleRepository, eventPublisher);
+	}
+
+	@Test
+	void concurrentColdStartLoadsOnce() {
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			CompletableFuture<HierarchySnapshot> first = CompletableFuture.supplyAsync(hierarchyIndex::current);
+			loading.await();
+
+			Thread waiter = new Thread(() -> hierarchyIndex.current());
+			waiter.start();
+			awaitBlocked(waiter);
+
+			release.countDown();
+			waiter.join();
+
+			assertSame(first.join(), hierarchyIndex.current());
+		});
+
+		verify(category1Repository, times(1)).findAll();
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void refreshAfterALoadReadsAgain() {
+		release.countDown();
+		hierarchyIndex.current();
+
+		hierarchyIndex.refresh();
+
+		verify(category1Repository, times(2)).findAll();
+	}
+
+	// 잠금을 기다리는 상태가 될 때까지
+	private static void awaitBlocked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.dto.IngestResult;
+
+/**
+ * 내장 DB의 짧은 컬럼에 묶음으로 써서, 한 줄이 길이를 넘어도 그 줄만 거절되고 나머지는 순서대로 저장되는지 확인
+ * 닫을 때 큐에 남은 레코드도 모두 결과가 정해지는지 확인 (요청이 응답을 기다리다 멈추지 않음)
+ */
+class IngestPipelineTests {
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+	private EmbeddedDatabase db;
+	private JdbcTemplate jdbc;
+	private TransactionTemplate tx;
+
+	// 첫 레코드를 쓰는 동안 쓰기 스레드를 붙잡아 나머지가 한 묶음으로 모이게 함
+	private final CountDownLatch holding = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private IngestPipeline<String> pipeline;
+
+	// 커밋 후 집계에 넘긴 최대 id
+	private final List<Long> committed = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		db = new EmbeddedDatabaseBuilder()
+			.setType(EmbeddedDatabaseType.H2)
+			.generateUniqueName(true)
+			.build();
+		jdbc = new JdbcTemplate(db);
+		jdbc.execute("CREATE TABLE item (id BIGINT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(5) NOT NULL)");
+		tx = new TransactionTemplate(new DataSourceTransactionManager(db));
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		release.countDown();
+		if (pipeline != null) pipeline.close(TIMEOUT);
+		db.shutdown();
+	}
+
+	@Test
+	void onlyTheBadLineIsRejected() throws InterruptedException {
+		pipeline = pipeline(this::insert);
+
+		IngestTicket ticket = new IngestTicket();
+		List<String> names = List.of("hold", "a", "b", "toolong", "c", "d", "e");
+		offerAll(names, ticket);
+		release.countDown();
+
+		IngestResult result = ticket.awaitResult(null);
+		assertEquals(6, result.accepted());
+		assertEquals(1, result.rejected());
+		assertTrue(result.errors().getFirst().startsWith("4: 저장 실패"), result.errors().toString());
+		assertEquals(List.of("hold", "a", "b", "c", "d", "e"),
+			jdbc.queryForList("SELECT name FROM item ORDER BY id", String.class));
+		// 나눠 쓴 조각 중 마지막으로 커밋한 id 까지 집계에 넘김 (묶음의 결과가 정해진 직후에 넘기므로 잠깐 기다림)
+		long maxId = jdbc.queryForObject("SELECT MAX(id) FROM item", Long.class);
+		assertTimeoutPreemptively(TIMEOUT, () -> {
+			while (committed.isEmpty() || committed.getLast() < maxId) Thread.sleep(10);
+		});
+		assertEquals(maxId, committed.getLast());
+	}
+
+	@Test
+	void otherFailuresRejectTheWholeBatch() throws InterruptedException {
+		pipeline = pipeline(names -> {
+			insert(names);
+			if (names.contains("down")) throw new DataAccessResourceFailureException("connection lost");
+		});
+
+		IngestTicket ticket = new IngestTicket();
+		offerAll(List.of("hold", "a", "down", "b"), ticket);
+		release.countDown();
+
+		IngestResult result = ticket.awaitResult(null);
+		assertEquals(1, result.accepted());
+		assertEquals(3, result.rejected());
+		assertEquals(List.of("hold"), jdbc.queryForList("SELECT name FROM item ORDER BY id", String.class));
+		// 실패한 묶음의 id 는 넘기지 않음
+		assertEquals(List.of(1L), committed);
+	}
+
+	@Test
+	void closeSettlesRecordsItCouldNotWrite() throws InterruptedException {
+		pipeline = pipeline(this::insert);
+
+		IngestTicket ticket = new IngestTicket();
+		offerAll(List.of("hold", "a", "b"), ticket);
+
+		// 쓰기 스레드가 붙잡힌 채로 닫힘 → 중단 후 남은 레코드는 거절, 요청은 응답을 받음
+		pipeline.close(Duration.ofMillis(100));
+		IngestResult result = assertTimeoutPreemptively(TIMEOUT, () -> ticket.awaitResult(null));
+		assertEquals(3, result.accepted() + result.rejected());
+		assertTrue(result.errors().contains("2: 종료 중이라 저장하지 못함"), result.errors().toString());
+		assertTrue(result.errors().contains("3: 종료 중이라 저장하지 못함"), result.errors().toString());
+	}
+
+	@Test
+	void offerAfterCloseIsRefused() throws InterruptedException {
+		pipeline = pipeline(this::insert);
+		pipeline.close(TIMEOUT);
+
+		IngestTicket ticket = new IngestTicket();
+		assertFalse(pipeline.offer("a", 1, ticket, TIMEOUT));
+		IngestResult result = assertTimeoutPreemptively(TIMEOUT, () -> ticket.awaitResult(1L));
+		assertEquals(0, result.accepted() + result.rejected());
+	}
+
+	private IngestPipeline<String> pipeline(Consumer<List<String>> writer) {
+		return new IngestPipeline<>("test", 100, 100, tx, names -> {
+			if (names.contains("hold")) await();
+			writer.accept(names);
+			return jdbc.queryForObject("SELECT MAX(id) FROM item", Long.class);
+		}, committed::add);
+	}
+
+	private void insert(List<String> names) {
+		jdbc.batchUpdate("INSERT INTO item (name) VALUES (?)", names, names.size(), (ps, name) -> ps.setString(1, name));
+	}
+
+	private void offerAll(List<String> names, IngestTicket ticket) throws InterruptedException {
+		for (int i = 0; i < names.size(); i++) {
+			assertTrue(pipeline.offer(names.get(i), i + 1, ticket, TIMEOUT));
+			// 첫 레코드가 혼자 묶음이 되도록 쓰기 스레드가 가져갈 때까지 기다림
+			if (i == 0) holding.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void await() {
+		holding.countDown();
+		try {
+			release.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
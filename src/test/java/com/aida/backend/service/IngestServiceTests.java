@@ -0,0 +1,104 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.aida.backend.dto.IngestResult;
+
+/**
+ * 수집 API 로 들어온 묶음은 커밋 직후 일별 집계에 보이는지 확인
+ * (commit-lag 는 기본값 그대로: 외부 INSERT 용 대기를 수집 파이프라인이 커밋한 id 에는 적용하지 않음)
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:ingest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.flyway.enabled=false",
+	"aida.aggregation.initial-delay-ms=3600000"
+})
+class IngestServiceTests {
+
+	// commit-lag(30초)보다 훨씬 짧게: 주기 갱신이나 lag 경과로 보이는 것이 아님
+	private static final Duration VISIBLE_WITHIN = Duration.ofSeconds(5);
+	private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private IngestService ingestService;
+
+	@Autowired
+	private HierarchyIndex hierarchyIndex;
+
+	@BeforeEach
+	void setUp() {
+		// MySQL 에서는 day 가 date 의 생성 컬럼 (수집 INSERT 는 day 를 넣지 않음)
+		for (String table : new String[] { "news", "social" }) {
+			jdbc.execute("ALTER TABLE " + table + " DROP COLUMN day");
+			jdbc.execute("ALTER TABLE " + table + " ADD COLUMN day DATE GENERATED ALWAYS AS (CAST(date AS DATE))");
+		}
+
+		jdbc.update("INSERT INTO category1 (id, code, name) VALUES (1, 'C1', '개인정보보호법')");
+		jdbc.update("INSERT INTO category2 (id, category1_id, code, name) VALUES (1, 1, 'C21', '수집')");
+		jdbc.update("INSERT INTO category3 (id, category2_id, code, name) VALUES (1, 1, '100001', '소분류')");
+		hierarchyIndex.refresh();
+	}
+
+	@Test
+	void committedBatchIsCountedRightAway() throws IOException {
+		IngestResult social = ingestService.ingestSocial(ndjson(
+			"{\"category3\":\"100001\",\"date\":\"2025-03-01T09:00:00\",\"content\":\"a\",\"sentiment\":\"찬성_개정강화\"}",
+			"{\"category3\":\"100001\",\"date\":\"2025-03-01T10:00:00\",\"content\":\"b\",\"sentiment\":\"찬성_개정강화\"}",
+			"{\"category3\":\"100001\",\"date\":\"2025-03-02T10:00:00\",\"content\":\"c\",\"sentiment\":\"중립\"}"));
+		assertEquals(3, social.accepted());
+
+		IngestResult news = ingestService.ingestNews(ndjson(
+			"{\"subid\":100001,\"category\":\"개인정보보호법\",\"date\":\"2025-03-01T08:00:00\",\"title\":\"t1\"}",
+			"{\"subid\":100001,\"category\":\"개인정보보호법\",\"date\":\"2025-03-01T11:00:00\",\"title\":\"t2\"}"));
+		assertEquals(2, news.accepted());
+
+		awaitEquals(3L, () -> count("SELECT COALESCE(SUM(cnt), 0) FROM social_sentiment_daily_agg"));
+		awaitEquals(2L, () -> count("SELECT COALESCE(SUM(cnt), 0) FROM news_daily_category_agg"));
+
+		assertEquals(2L, count("SELECT COALESCE(SUM(cnt), 0) FROM social_sentiment_daily_agg WHERE day = '" + DAY + "'"));
+		assertEquals(2L, count("SELECT COALESCE(SUM(cnt), 0) FROM news_daily_category_agg WHERE day = '" + DAY + "'"));
+	}
+
+	private long count(String sql) {
+		return jdbc.queryForObject(sql, Long.class);
+	}
+
+	private static void awaitEquals(long expected, Supplier<Long> actual) {
+		Instant deadline = Instant.now().plus(VISIBLE_WITHIN);
+		while (actual.get() != expected && Instant.now().isBefore(deadline)) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		assertEquals(expected, actual.get());
+	}
+
+	private static ByteArrayInputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,152 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.aida.backend.dto.DailyLawArticleCountDto;
+import com.aida.backend.dto.LawArticleDayScoreDto;
+import com.aida.backend.dto.LawArticleLatestScoreDto;
+import com.aida.backend.entity.LawArticleDailyMetrics;
+
+/**
+ * 일별 SCORE 원점수 계산식 확인 (DB 없이)
+ */
+class LawMetricsServiceTests {
+
+	private static final double EPS = 1e-9;
+	private static final LocalDate END = LocalDate.of(2025, 3, 10);
+
+	@Test
+	void endDateRowIsUsedAsIs() {
+		List<LawArticleDayScoreDto> scores = LawMetricsService.scoresAt(END,
+			List.of(new LawArticleLatestScoreDto(1, END, 4.0, 0.5, -0.25)), List.of());
+
+		assertEquals(List.of(new LawArticleDayScoreDto(1, 4.0, 0.5, -0.25)), scores);
+	}
+
+	@Test
+	void olderRowDecaysLikeDailyRebuild() {
+		// 마지막 행 이후 뉴스가 없으면 매일 감쇠한 값과 같아야 함
+		double v = 10.0;
+		for (int i = 0; i < 5; i++) {
+			v *= LawVScoreService.decayWeight(1);
+		}
+
+		LawArticleDayScoreDto score = LawMetricsService.scoresAt(END,
+			List.of(new LawArticleLatestScoreDto(1, END.minusDays(5), 10.0, 3.0, 1.0)), List.of()).get(0);
+
+		assertEquals(v, score.vScore(), EPS);
+		// 최근 3주 뉴스가 없으면 G, A 는 0
+		assertEquals(0.0, score.gScore(), EPS);
+		assertEquals(0.0, score.aScore(), EPS);
+	}
+
+	@Test
+	void olderRowRecomputesGrowthForEndDate() {
+		List<DailyLawArticleCountDto> recentNews = List.of(
+			new DailyLawArticleCountDto(END.minusDays(3), 1, 2),
+			new DailyLawArticleCountDto(END.minusDays(9), 1, 4),
+			new DailyLawArticleCountDto(END.minusDays(9), 2, 100));
+
+		LawArticleDayScoreDto score = LawMetricsService.scoresAt(END,
+			List.of(new LawArticleLatestScoreDto(1, END.minusDays(3), 6.0, 9.0, 9.0)), recentNews).get(0);
+
+		double week0 = 2 * LawVScoreService.decayWeight(3);
+		double week1 = 4 * LawVScoreService.decayWeight(9);
+		double g = (week0 - week1) / week1;
+
+		assertEquals(6.0 * LawVScoreService.decayWeight(3), score.vScore(), EPS);
+		assertEquals(g, score.gScore(), EPS);
+		assertEquals(g - week1, score.aScore(), EPS);
+	}
+
+	@Test
+	void growthMatchesBaselineWeeklyBuckets() {
+		Map<LocalDate, Long> dailyNews = Map.of(
+			END, 3L,
+			END.minusDays(6), 1L,
+			END.minusDays(7), 2L,
+			END.minusDays(13), 4L,
+			END.minusDays(15), 5L,
+			END.minusDays(21), 7L);
+
+		// 기존 전체 스캔: 일별 V(건수 × 감쇠)를 주차별로 더해 G = (w0 - w1) / w1, A = G - (w1 - w2) / w2
+		double week0 = 3 + 1 * decay(6);
+		double week1 = 2 * decay(7) + 4 * decay(13);
+		double week2 = 5 * decay(15);
+		double g = (week0 - week1) / week1;
+
+		double[] growth = LawMetricsService.growthAndAcceleration(dailyNews, END);
+		assertEquals(g, growth[0], EPS);
+		assertEquals(g - (week1 - week2) / week2, growth[1], EPS);
+	}
+
+	@Test
+	void growthWithoutPreviousWeekFallsBackToCurrentWeek() {
+		double[] growth = LawMetricsService.growthAndAcceleration(Map.of(END.minusDays(1), 2L), END);
+
+		assertEquals(2 * decay(1), growth[0], EPS);
+		assertEquals(2 * decay(1), growth[1], EPS);
+	}
+
+	@Test
+	void calculateDayDecaysAndAddsTodaysNews() {
+		Map<Long, Double> vByArticle = new HashMap<>(Map.of(1L, 4.0, 2L, 6.0));
+		Map<Long, Map<LocalDate, Long>> newsCounts = Map.of(1L, Map.of(END, 2L, END.minusDays(8), 1L));
+
+		Map<Long, LawArticleDailyMetrics> rows = byArticle(
+			LawMetricsService.calculateDay(END, vByArticle, newsCounts, Map.of()));
+
+		LawArticleDailyMetrics withNews = rows.get(1L);
+		assertEquals(4.0 * decay(1) + 2, withNews.getVScore(), EPS);
+		assertEquals(1.0, withNews.getPScore(), EPS);
+		double[] growth = LawMetricsService.growthAndAcceleration(newsCounts.get(1L), END);
+		assertEquals(growth[0], withNews.getGScore(), EPS);
+		assertEquals(growth[1], withNews.getAScore(), EPS);
+
+		LawArticleDailyMetrics decayed = rows.get(2L);
+		assertEquals(6.0 * decay(1), decayed.getVScore(), EPS);
+		assertEquals(0.0, decayed.getPScore(), EPS);
+
+		// 다음 날 계산을 위해 V가 이어짐
+		assertEquals(withNews.getVScore(), vByArticle.get(1L), EPS);
+	}
+
+	@Test
+	void calculateDaySkipsIdleArticlesBelowEpsilon() {
+		Map<Long, Double> vByArticle = new HashMap<>(Map.of(1L, 0.005, 2L, 0.005));
+		LawMetricsService.SentimentCounts social = new LawMetricsService.SentimentCounts();
+		social.positive = 3;
+		social.negative = 2;
+		social.neutral = 1;
+
+		Map<Long, LawArticleDailyMetrics> rows = byArticle(
+			LawMetricsService.calculateDay(END, vByArticle, Map.of(), Map.of(2L, social)));
+
+		// 1: V만 조금 남고 활동 없음 → 행 없음, 2: 댓글이 있으면 V가 작아도 행을 만듦
+		assertEquals(Set.of(2L), rows.keySet());
+		LawArticleDailyMetrics row = rows.get(2L);
+		assertEquals(LawMetricsService.controversy(3, 2), row.getCScore(), EPS);
+		assertEquals(6.0, row.getBScore(), EPS);
+		assertEquals(3, row.getPositiveCount());
+		assertEquals(2, row.getNegativeCount());
+		assertEquals(1, row.getNeutralCount());
+	}
+
+	private static double decay(long daysAgo) {
+		return Math.exp(-Math.log(2) * daysAgo / 7.0);
+	}
+
+	private static Map<Long, LawArticleDailyMetrics> byArticle(List<LawArticleDailyMetrics> rows) {
+		Map<Long, LawArticleDailyMetrics> result = new HashMap<>();
+		for (LawArticleDailyMetrics row : rows) result.put(row.getLawArticleId(), row);
+		return result;
+	}
+}
@@ -0,0 +1,116 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.aida.backend.entity.LawArticleVScore;
+import com.aida.backend.entity.NewsDailyLawAgg;
+import com.aida.backend.repository.LawArticleVScoreRepository;
+import com.aida.backend.repository.NewsDailyLawAggRepository;
+
+/**
+ * V 시계열 재계산이 기준일 이전 전체 뉴스의 감쇠 합(기존 전체 스캔 방식)과 같은지 확인 (DB 없이)
+ */
+class LawVScoreServiceTests {
+
+	private static final double EPS = 1e-9;
+	private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+
+	private LawArticleVScoreRepository vScoreRepository;
+	private NewsDailyLawAggRepository newsDailyLawAggRepository;
+	private LawVScoreService service;
+
+	private final List<NewsDailyLawAgg> news = new ArrayList<>();
+	private final List<LawArticleVScore> saved = new ArrayList<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		vScoreRepository = mock(LawArticleVScoreRepository.class);
+		newsDailyLawAggRepository = mock(NewsDailyLawAggRepository.class);
+		service = new LawVScoreService(vScoreRepository, newsDailyLawAggRepository,
+			new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+		when(newsDailyLawAggRepository.findByDayBetweenOrderByLawArticleIdAscDayAsc(any(), any())).thenAnswer(invocation -> {
+			LocalDate start = invocation.getArgument(0);
+			LocalDate end = invocation.getArgument(1);
+			return news.stream()
+				.filter(agg -> !agg.getDay().isBefore(start) && !agg.getDay().isAfter(end))
+				.sorted(Comparator.comparing(NewsDailyLawAgg::getLawArticleId).thenComparing(NewsDailyLawAgg::getDay))
+				.toList();
+		});
+		when(newsDailyLawAggRepository.findLastDay()).thenAnswer(invocation ->
+			news.stream().map(NewsDailyLawAgg::getDay).max(Comparator.naturalOrder()).orElse(null));
+		when(vScoreRepository.saveAll(any())).thenAnswer(invocation -> {
+			((Iterable<LawArticleVScore>) invocation.getArgument(0)).forEach(saved::add);
+			return List.of();
+		});
+	}
+
+	@Test
+	void decayWeightHalvesEveryWeek() {
+		assertEquals(1.0, LawVScoreService.decayWeight(0), EPS);
+		assertEquals(0.5, LawVScoreService.decayWeight(7), EPS);
+		assertEquals(0.25, LawVScoreService.decayWeight(14), EPS);
+		// 기존 전체 스캔의 가중치 exp(-ln2 · d / 7)
+		assertEquals(Math.exp(-Math.log(2) * 3 / 7.0), LawVScoreService.decayWeight(3), EPS);
+	}
+
+	@Test
+	void rebuildMatchesFullHistorySumAcrossWindows() {
+		news(1, FROM, 3);
+		news(1, FROM.plusDays(3), 1);
+		news(2, FROM.plusDays(10), 5);
+		// 두 번째 구간 (31일 뒤)
+		news(1, FROM.plusDays(40), 2);
+		news(2, FROM.plusDays(45), 1);
+
+		service.rebuildFrom(FROM);
+
+		assertEquals(news.size(), saved.size());
+		for (LawArticleVScore row : saved) {
+			assertEquals(fullScanV(row.getLawArticleId(), row.getDay()), row.getVScore(), EPS, row.getDay().toString());
+		}
+		verify(vScoreRepository).deleteBetween(FROM, FROM.plusDays(30));
+		verify(vScoreRepository).deleteFrom(FROM.plusDays(31));
+	}
+
+	@Test
+	void rebuildContinuesFromLastRowBeforeFrom() {
+		when(vScoreRepository.findLatestBefore(FROM)).thenReturn(List.of(
+			LawArticleVScore.builder().lawArticleId(1L).day(FROM.minusDays(5)).vScore(8.0).build()));
+		news(1, FROM.plusDays(2), 1);
+
+		service.rebuildFrom(FROM);
+
+		// 8 · 2^(-7/7) + 1
+		assertEquals(1, saved.size());
+		assertEquals(5.0, saved.get(0).getVScore(), EPS);
+	}
+
+	private void news(long lawArticleId, LocalDate day, long count) {
+		news.add(NewsDailyLawAgg.builder().lawArticleId(lawArticleId).day(day).count(count).build());
+	}
+
+	// 기존 방식: 기준일 이전 모든 뉴스 건수 × 2^(-경과일 / 7)
+	private double fullScanV(long lawArticleId, LocalDate day) {
+		return news.stream()
+			.filter(agg -> agg.getLawArticleId() == lawArticleId && !agg.getDay().isAfter(day))
+			.mapToDouble(agg -> agg.getCount() * Math.exp(-Math.log(2) * ChronoUnit.DAYS.between(agg.getDay(), day) / 7.0))
+			.sum();
+	}
+}
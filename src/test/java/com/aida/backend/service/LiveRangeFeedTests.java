@@ -0,0 +1,258 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.aida.backend.dto.KpiDailyData;
+import com.aida.backend.dto.KpiJson;
+import com.aida.backend.dto.KpiSummary;
+import com.aida.backend.dto.LegalTop5ResponseDto;
+import com.aida.backend.dto.LiveDashboardUpdate;
+import com.aida.backend.dto.StanceAreaDto;
+
+/**
+ * 실시간 구독의 delta 계산과 전송 순서 확인
+ * - delta 에는 바뀐 일자 / 바뀐 대분류만, TOP 5 는 바뀌었을 때만
+ * - 구독자는 join → snapshot → delta 순서로 받고, snapshot 전에는 delta 를 받지 않음
+ */
+class LiveRangeFeedTests {
+
+	private static final LocalDate START = LocalDate.of(2025, 3, 1);
+	private static final LocalDate END = LocalDate.of(2025, 3, 3);
+
+	@Test
+	void diffKeepsOnlyChangedDays() {
+		LiveDashboardUpdate previous = update(
+			Map.of("개인정보보호법", kpi(10, 3, 4, 5), "저작권법", kpi(20, 1, 1, 1)),
+			List.of(stance("2025-03-01", 1), stance("2025-03-02", 2), stance("2025-03-03", 3)),
+			top5("A", "B"));
+		LiveDashboardUpdate current = update(
+			Map.of("개인정보보호법", kpi(11, 3, 4, 6), "저작권법", kpi(20, 1, 1, 1)),
+			List.of(stance("2025-03-01", 1), stance("2025-03-02", 2), stance("2025-03-03", 4)),
+			top5("A", "B"));
+
+		LiveDashboardUpdate delta = LiveRangeFeed.diff(previous, current);
+
+		// 바뀐 대분류: 새 요약 + 바뀐 일자만
+		assertEquals(Map.of("개인정보보호법", new KpiJson(summary(11), List.of(day("2025-03-03", 6)))), delta.kpi());
+		assertEquals(List.of(stance("2025-03-03", 4)), delta.stanceArea());
+		// TOP 5 는 같으면 보내지 않음
+		assertTrue(delta.legalTop5().isEmpty());
+	}
+
+	@Test
+	void diffSendsTop5OnlyWhenItChanged() {
+		LiveDashboardUpdate previous = update(Map.of("개인정보보호법", kpi(10, 3, 4, 5)), List.of(), top5("A", "B"));
+		LiveDashboardUpdate current = update(Map.of("개인정보보호법", kpi(10, 3, 4, 5)), List.of(), top5("B", "A"));
+
+		LiveDashboardUpdate delta = LiveRangeFeed.diff(previous, current);
+
+		assertTrue(delta.kpi().isEmpty());
+		assertTrue(delta.stanceArea().isEmpty());
+		assertEquals(current.legalTop5(), delta.legalTop5());
+	}
+
+	@Test
+	void diffOfEqualValuesIsEmpty() {
+		LiveDashboardUpdate value = update(Map.of("개인정보보호법", kpi(10, 3, 4, 5)), List.of(stance("2025-03-01", 1)), top5("A"));
+
+		assertTrue(LiveRangeFeed.diff(value, value).isEmpty());
+	}
+
+	@Test
+	void diffSendsNewCategoryInFull() {
+		LiveDashboardUpdate previous = update(Map.of(), List.of(), top5());
+		LiveDashboardUpdate current = update(Map.of("저작권법", kpi(20, 1, 2, 3)), List.of(), top5());
+
+		assertEquals(current.kpi(), LiveRangeFeed.diff(previous, current).kpi());
+	}
+
+	@Test
+	void subscriberReceivesSnapshotBeforeDeltas() {
+		AtomicReference<LiveDashboardUpdate> value = new AtomicReference<>(stanceOnly(1, 1, 1));
+		AtomicInteger loads = new AtomicInteger();
+		LiveRangeFeed feed = new LiveRangeFeed(START, END, () -> {
+			loads.incrementAndGet();
+			return value.get();
+		});
+
+		RecordingEmitter first = new RecordingEmitter();
+		feed.join(first);
+		assertTrue(feed.hasSubscribers());
+
+		// snapshot 전 갱신: 아직 delta 대상이 아니므로 아무것도 받지 않음
+		value.set(stanceOnly(1, 1, 2));
+		feed.refresh();
+		assertTrue(first.events.isEmpty());
+
+		feed.sendSnapshot(first);
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT), first.names());
+		assertEquals(stanceOnly(1, 1, 2), first.events.get(0).update());
+
+		value.set(stanceOnly(1, 5, 2));
+		feed.refresh();
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT, LiveRangeFeed.DELTA), first.names());
+		assertEquals(List.of(stance("2025-03-02", 5)), first.events.get(1).update().stanceArea());
+
+		// 바뀐 것이 없으면 보내지 않음
+		feed.refresh();
+		assertEquals(2, first.events.size());
+
+		// 두 번째 구독자: join 과 snapshot 사이의 delta 는 받지 않고, snapshot 에 그 변경이 들어 있음
+		RecordingEmitter second = new RecordingEmitter();
+		feed.join(second);
+		value.set(stanceOnly(7, 5, 2));
+		feed.refresh();
+		assertTrue(second.events.isEmpty());
+		feed.sendSnapshot(second);
+
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT, LiveRangeFeed.DELTA, LiveRangeFeed.DELTA), first.names());
+		assertEquals(List.of(stance("2025-03-01", 7)), first.events.get(2).update().stanceArea());
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT), second.names());
+		assertEquals(stanceOnly(7, 5, 2), second.events.get(0).update());
+
+		value.set(stanceOnly(7, 5, 9));
+		feed.refresh();
+		assertEquals(LiveRangeFeed.DELTA, second.names().getLast());
+		assertEquals(first.events.getLast().update(), second.events.getLast().update());
+
+		// 구독자 수와 상관없이 갱신마다 한 번 계산 (snapshot 은 이미 계산한 값을 보냄)
+		assertEquals(5, loads.get());
+	}
+
+	@Test
+	void unsubscribedBeforeSnapshotReceivesNothing() {
+		LiveRangeFeed feed = new LiveRangeFeed(START, END, () -> stanceOnly(1, 1, 1));
+		RecordingEmitter emitter = new RecordingEmitter();
+
+		feed.join(emitter);
+		feed.unsubscribe(emitter);
+		feed.sendSnapshot(emitter);
+
+		assertTrue(emitter.events.isEmpty());
+		assertFalse(feed.hasSubscribers());
+	}
+
+	@Test
+	void failedSendDropsTheSubscriber() {
+		AtomicReference<LiveDashboardUpdate> value = new AtomicReference<>(stanceOnly(1, 1, 1));
+		LiveRangeFeed feed = new LiveRangeFeed(START, END, value::get);
+		RecordingEmitter healthy = new RecordingEmitter();
+		RecordingEmitter broken = new RecordingEmitter();
+
+		feed.join(healthy);
+		feed.join(broken);
+		feed.sendSnapshot(healthy);
+		feed.sendSnapshot(broken);
+
+		broken.failing = true;
+		value.set(stanceOnly(2, 1, 1));
+		feed.refresh();
+		value.set(stanceOnly(3, 1, 1));
+		feed.refresh();
+
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT, LiveRangeFeed.DELTA, LiveRangeFeed.DELTA), healthy.names());
+		// snapshot + 실패한 delta 한 번, 이후 갱신에서는 빠짐
+		assertEquals(List.of(LiveRangeFeed.SNAPSHOT), broken.names());
+		assertEquals(2, broken.attempts);
+	}
+
+	@Test
+	void onlyChangesUpToTheEndDateAffectTheRange() {
+		LiveRangeFeed feed = new LiveRangeFeed(START, END, () -> stanceOnly(1, 1, 1));
+
+		assertTrue(feed.affectedBy(new DashboardDataChangedEvent(LocalDate.MIN)));
+		assertTrue(feed.affectedBy(new DashboardDataChangedEvent(START.minusDays(1))));
+		assertTrue(feed.affectedBy(new DashboardDataChangedEvent(END)));
+		assertFalse(feed.affectedBy(new DashboardDataChangedEvent(END.plusDays(1))));
+	}
+
+	private static LiveDashboardUpdate update(Map<String, KpiJson> kpi, List<StanceAreaDto> stanceArea,
+	                                          Map<String, LegalTop5ResponseDto> legalTop5) {
+		return new LiveDashboardUpdate(kpi, stanceArea, legalTop5);
+	}
+
+	private static LiveDashboardUpdate stanceOnly(int... revisions) {
+		List<StanceAreaDto> stanceArea = new ArrayList<>();
+		for (int i = 0; i < revisions.length; i++) {
+			stanceArea.add(stance(START.plusDays(i).toString(), revisions[i]));
+		}
+		return update(Map.of(), stanceArea, Map.of());
+	}
+
+	private static KpiJson kpi(long totalArticles, int... news) {
+		List<KpiDailyData> daily = new ArrayList<>();
+		for (int i = 0; i < news.length; i++) {
+			daily.add(day(START.plusDays(i).toString(), news[i]));
+		}
+		return new KpiJson(summary(totalArticles), daily);
+	}
+
+	private static KpiSummary summary(long totalArticles) {
+		return new KpiSummary(totalArticles, 0, 0.0, 0.0);
+	}
+
+	private static KpiDailyData day(String date, int news) {
+		return new KpiDailyData(date, news, 0);
+	}
+
+	private static StanceAreaDto stance(String date, int revision) {
+		return new StanceAreaDto(date, revision, 0, 0);
+	}
+
+	private static Map<String, LegalTop5ResponseDto> top5(String... laws) {
+		Map<String, LegalTop5ResponseDto> top5 = new LinkedHashMap<>();
+		for (int i = 0; i < laws.length; i++) {
+			top5.put(String.valueOf(i + 1), new LegalTop5ResponseDto(laws[i], 1, 2, 3, 6, "N"));
+		}
+		return top5;
+	}
+
+	private record Event(String name, LiveDashboardUpdate update) {}
+
+	/**
+	 * 보낸 이벤트(이름 + 본문)를 기록하는 구독자
+	 */
+	private static final class RecordingEmitter extends SseEmitter {
+
+		final List<Event> events = new ArrayList<>();
+		boolean failing;
+		int attempts;
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			String name = null;
+			LiveDashboardUpdate update = null;
+			for (DataWithMediaType part : builder.build()) {
+				if (part.getData() instanceof LiveDashboardUpdate data) update = data;
+				else if (part.getData() instanceof String text && text.startsWith("event:")) {
+					name = text.substring("event:".length(), text.indexOf('\n'));
+				}
+			}
+			// 연결 유지용 주석은 기록하지 않음
+			if (update == null) return;
+
+			attempts++;
+			if (failing) throw new IOException("broken pipe");
+			events.add(new Event(name, update));
+		}
+
+		List<String> names() {
+			return events.stream().map(Event::name).toList();
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.aida.backend.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 월 파티션 상한('YYYY-MM-DD' / MAXVALUE)을 읽어 빠진 달만 pmax 에서 나누는지 확인
+ * (H2 에는 information_schema.PARTITIONS 가 없으므로 조회 결과는 MySQL 형식으로 흉내 냄)
+ */
+class PartitionMaintenanceServiceTests {
+
+	private static final String BOUNDS_QUERY =
+		"SELECT PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+		"WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL";
+
+	private JdbcTemplate jdbc;
+	private PartitionMaintenanceService service;
+
+	@BeforeEach
+	void setUp() {
+		jdbc = mock(JdbcTemplate.class);
+		service = new PartitionMaintenanceService(jdbc);
+	}
+
+	@Test
+	void splitsPmaxFromTheMonthAfterTheLastBound() {
+		bounds("news", "'2025-09-01'", "'2025-10-01'", "MAXVALUE");
+
+		service.ensurePartitionsUntil("news", YearMonth.of(2025, 12));
+
+		// '2025-10-01' 상한 → 9월까지 있음, 10월부터 12월까지 추가
+		verify(jdbc).execute("ALTER TABLE news REORGANIZE PARTITION pmax INTO (" +
+			"PARTITION p202510 VALUES LESS THAN ('2025-11-01'), " +
+			"PARTITION p202511 VALUES LESS THAN ('2025-12-01'), " +
+			"PARTITION p202512 VALUES LESS THAN ('2026-01-01'), " +
+			"PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+	}
+
+	@Test
+	void crossesTheYearBoundary() {
+		bounds("social", "MAXVALUE", "'2025-12-01'");
+
+		service.ensurePartitionsUntil("social", YearMonth.of(2026, 1));
+
+		verify(jdbc).execute("ALTER TABLE social REORGANIZE PARTITION pmax INTO (" +
+			"PARTITION p202512 VALUES LESS THAN ('2026-01-01'), " +
+			"PARTITION p202601 VALUES LESS THAN ('2026-02-01'), " +
+			"PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+	}
+
+	@Test
+	void coveredMonthsAreLeftAlone() {
+		bounds("news", "'2025-11-01'", "'2026-01-01'", "MAXVALUE");
+
+		service.ensurePartitionsUntil("news", YearMonth.of(2025, 12));
+
+		verify(jdbc, never()).execute(anyString());
+	}
+
+	@Test
+	void onlyPmaxStartsFromTheCurrentMonth() {
+		bounds("news", "MAXVALUE");
+		YearMonth now = YearMonth.now();
+
+		service.ensurePartitionsUntil("news", now);
+
+		verify(jdbc).execute("ALTER TABLE news REORGANIZE PARTITION pmax INTO (" +
+			String.format("PARTITION p%d%02d VALUES LESS THAN ('%s'), ", now.getYear(), now.getMonthValue(), now.plusMonths(1).atDay(1)) +
+			"PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+	}
+
+	@Test
+	void unpartitionedTableIsSkipped() {
+		bounds("social");
+
+		service.ensurePartitionsUntil("social", YearMonth.of(2030, 1));
+
+		verify(jdbc, never()).execute(anyString());
+	}
+
+	private void bounds(String table, String... upperBounds) {
+		when(jdbc.queryForList(BOUNDS_QUERY, String.class, table)).thenReturn(List.of(upperBounds));
+	}
+}
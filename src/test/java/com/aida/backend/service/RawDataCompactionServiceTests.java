@@ -0,0 +1,134 @@
+package com.aida.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 내장 DB(H2)에서 원본 압축 확인
+ * - 집계와 건수가 맞는 날: 댓글은 (소분류, sentiment)별 id 순 N건, 뉴스는 대표 기사만 남음
+ * - 집계에서 빠진 행이 있는 날: 지우지 않음
+ * - 다시 실행해도 (재시작 후 처음부터 다시 확인해도) 결과가 같음
+ * - 일별 집계는 그대로
+ */
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:compaction;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=DAY,VALUE",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.datasource.driver-class-name=org.h2.Driver",
+	"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+	"spring.jpa.hibernate.ddl-auto=create-drop",
+	"spring.flyway.enabled=false",
+	"aida.aggregation.initial-delay-ms=3600000",
+	"aida.aggregation.commit-lag=PT0S",
+	"aida.retention.enabled=true",
+	"aida.retention.raw-days=30",
+	"aida.retention.sampled-opinions=1"
+})
+class RawDataCompactionServiceTests {
+
+	private static final LocalDate RECONCILED_DAY = LocalDate.of(2025, 1, 1);
+	private static final LocalDate UNCOUNTED_DAY = LocalDate.of(2025, 1, 2);
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Autowired
+	private DailyAggregationService dailyAggregationService;
+
+	@Autowired
+	private RawDataCompactionService rawDataCompactionService;
+
+	@Test
+	void compactsReconciledDaysOnlyAndIsIdempotent() {
+		seedHierarchy();
+
+		// 집계와 맞을 날: 그룹 (소분류 1, 찬성_개정강화) 12건, (소분류 2, 중립) 3건, (소분류 없음, sentiment 없음) 8건
+		insertSocial(1, 12, RECONCILED_DAY, 1L, "찬성_개정강화");
+		insertSocial(13, 3, RECONCILED_DAY, 2L, "중립");
+		insertSocial(16, 8, RECONCILED_DAY, null, null);
+		// 집계에서 빠진 행이 생길 날: id 사이를 비워 둠 (102, 104, ..., 116)
+		for (long id = 102; id <= 116; id += 2) {
+			insertSocial(id, 1, UNCOUNTED_DAY, 1L, "반대_현상유지");
+		}
+
+		for (long id = 1; id <= 6; id++) insertNews(id, RECONCILED_DAY, "개인정보보호법");
+		insertNews(7, RECONCILED_DAY, null);
+		for (long id = 11; id <= 13; id++) insertNews(id, UNCOUNTED_DAY, "개인정보보호법");
+		jdbc.update("UPDATE category3 SET representative_news_id = 2 WHERE id = 1");
+
+		dailyAggregationService.refresh();
+
+		// 워터마크 아래 id 로 늦게 커밋된 행: 집계에는 없음
+		insertSocial(103, 1, UNCOUNTED_DAY, 1L, "반대_현상유지");
+
+		Map<String, Object> aggBefore = aggSums();
+		rawDataCompactionService.compact();
+
+		assertCompacted();
+		assertEquals(aggBefore, aggSums());
+
+		// 같은 실행 안에서 다시 / 재시작 후 가장 오래된 날부터 다시
+		rawDataCompactionService.compact();
+		assertCompacted();
+		ReflectionTestUtils.setField(rawDataCompactionService, "socialCompactedBefore", null);
+		ReflectionTestUtils.setField(rawDataCompactionService, "newsCompactedBefore", null);
+		rawDataCompactionService.compact();
+		assertCompacted();
+		assertEquals(aggBefore, aggSums());
+	}
+
+	private void assertCompacted() {
+		// 그룹별 id 순 앞의 5건 = max(sampled-opinions 1, 네트워크 그래프 그룹당 의견 수 5), 5건 이하 그룹은 그대로
+		assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 20L), socialIds(RECONCILED_DAY));
+		// 집계에서 빠진 행이 있는 날은 그대로
+		assertEquals(List.of(102L, 103L, 104L, 106L, 108L, 110L, 112L, 114L, 116L), socialIds(UNCOUNTED_DAY));
+
+		// 뉴스: 대표 기사만 남음 (뉴스는 그날 집계와 맞으므로 댓글과 따로 압축)
+		assertEquals(List.of(2L), newsIds(RECONCILED_DAY));
+		assertEquals(List.of(), newsIds(UNCOUNTED_DAY));
+	}
+
+	private void seedHierarchy() {
+		jdbc.update("INSERT INTO category1 (id, code, name) VALUES (1, 'C1', '개인정보보호법')");
+		jdbc.update("INSERT INTO category2 (id, category1_id, code, name) VALUES (1, 1, 'C21', '수집')");
+		jdbc.update("INSERT INTO law (id, law_name) VALUES (1, '개인정보 보호법')");
+		jdbc.update("INSERT INTO law_part (id, part_number, part_title, law_id) VALUES (1, '제1장', '총칙', 1)");
+		jdbc.update("INSERT INTO law_article (id, article_number, article_title, article_content, part_id) VALUES (1, '제1조', '목적', '내용', 1)");
+		jdbc.update("INSERT INTO category3 (id, category2_id, code, name, law_article_id) VALUES (1, 1, '100001', '소분류1', 1), (2, 1, '100002', '소분류2', 1)");
+	}
+
+	private void insertSocial(long firstId, int count, LocalDate day, Long category3Id, String sentiment) {
+		for (long id = firstId; id < firstId + count; id++) {
+			jdbc.update("INSERT INTO social (id, category3_id, date, day, content, sentiment) VALUES (?, ?, ?, ?, ?, ?)",
+				id, category3Id, day.atTime(12, 0), day, "의견" + id, sentiment);
+		}
+	}
+
+	private void insertNews(long id, LocalDate day, String category) {
+		jdbc.update("INSERT INTO news (id, subid, category, date, day, title) VALUES (?, 100001, ?, ?, ?, 't')",
+			id, category, day.atTime(9, 0), day);
+	}
+
+	private List<Long> socialIds(LocalDate day) {
+		return jdbc.queryForList("SELECT id FROM social WHERE day = ? ORDER BY id", Long.class, day);
+	}
+
+	private List<Long> newsIds(LocalDate day) {
+		return jdbc.queryForList("SELECT id FROM news WHERE day = ? ORDER BY id", Long.class, day);
+	}
+
+	private Map<String, Object> aggSums() {
+		return jdbc.queryForMap(
+			"SELECT (SELECT SUM(cnt) FROM social_sentiment_daily_agg) AS social, " +
+			"(SELECT SUM(cnt) FROM news_daily_category_agg) AS news");
+	}
+}